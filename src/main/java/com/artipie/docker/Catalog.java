@@ -24,6 +24,10 @@
 package com.artipie.docker;
 
 import com.artipie.asto.Content;
+import com.artipie.docker.misc.ParsedCatalog;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Docker repositories catalog.
@@ -38,4 +42,25 @@ public interface Catalog {
      * @return Catalog in JSON format.
      */
     Content json();
+
+    /**
+     * Repository names of this page in ascending order.
+     * By default names are read from JSON, implementations
+     * holding typed names should return them as is.
+     *
+     * @return Repository names list.
+     */
+    default CompletionStage<List<RepoName>> repos() {
+        return new ParsedCatalog(this).repos();
+    }
+
+    /**
+     * Continuation of catalog: last repository name of this page
+     * if next page may follow it.
+     *
+     * @return Last repository name, empty if there is no next page or it is unknown.
+     */
+    default Optional<RepoName> next() {
+        return Optional.empty();
+    }
 }
@@ -25,9 +25,12 @@
 package com.artipie.docker;
 
 import com.artipie.asto.Content;
+import com.artipie.asto.ext.PublisherAs;
 import com.artipie.docker.manifest.Manifest;
+import com.artipie.docker.manifest.ManifestMeta;
 import com.artipie.docker.ref.ManifestRef;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
 /**
@@ -54,6 +57,26 @@ public interface Manifests {
      */
     CompletionStage<Optional<Manifest>> get(ManifestRef ref);
 
+    /**
+     * Get manifest metadata by reference.
+     * Reads whole manifest by default, implementations may provide metadata
+     * without reading manifest content.
+     *
+     * @param ref Manifest reference
+     * @return Manifest metadata if it is found, empty if manifest is absent.
+     */
+    default CompletionStage<Optional<ManifestMeta>> meta(final ManifestRef ref) {
+        return this.get(ref).thenCompose(
+            found -> found.<CompletionStage<Optional<ManifestMeta>>>map(
+                manifest -> new PublisherAs(manifest.content()).bytes().thenApply(
+                    bytes -> Optional.of(
+                        new ManifestMeta(manifest.digest(), manifest.mediaType(), bytes.length)
+                    )
+                )
+            ).orElseGet(() -> CompletableFuture.completedFuture(Optional.empty()))
+        );
+    }
+
     /**
      * List manifest tags.
      *
@@ -94,6 +117,11 @@ public interface Manifests {
             return this.manifests.get(ref);
         }
 
+        @Override
+        public final CompletionStage<Optional<ManifestMeta>> meta(final ManifestRef ref) {
+            return this.manifests.meta(ref);
+        }
+
         @Override
         public final CompletionStage<Tags> tags(final Optional<Tag> from, final int limit) {
             return this.manifests.tags(from, limit);
@@ -24,6 +24,10 @@
 package com.artipie.docker;
 
 import com.artipie.asto.Content;
+import com.artipie.docker.misc.ParsedTags;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Docker repository manifest tags.
@@ -38,4 +42,24 @@ public interface Tags {
      * @return Tags in JSON format.
      */
     Content json();
+
+    /**
+     * Tags of this page in ascending order.
+     * By default tags are read from JSON, implementations
+     * holding typed tags should return them as is.
+     *
+     * @return Tags list.
+     */
+    default CompletionStage<List<Tag>> tags() {
+        return new ParsedTags(this).tags();
+    }
+
+    /**
+     * Continuation of tags list: last tag of this page if next page may follow it.
+     *
+     * @return Last tag, empty if there is no next page or it is unknown.
+     */
+    default Optional<Tag> next() {
+        return Optional.empty();
+    }
 }
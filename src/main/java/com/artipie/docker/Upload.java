@@ -57,6 +57,19 @@ public interface Upload {
      */
     CompletionStage<Long> append(Publisher<ByteBuffer> chunk);
 
+    /**
+     * Writes a chunk of data to specified range of upload.
+     * Chunks may be written concurrently and in any order,
+     * they are assembled by their positions when upload is finished.
+     * Chunk which data does not match the range is not kept.
+     *
+     * @param start Offset of chunk first byte.
+     * @param end Offset of chunk last byte.
+     * @param chunk Chunk of data.
+     * @return Offset of chunk last byte.
+     */
+    CompletionStage<Long> write(long start, long end, Publisher<ByteBuffer> chunk);
+
     /**
      * Get offset for the uploaded content.
      *
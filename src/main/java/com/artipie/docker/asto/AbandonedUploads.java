@@ -0,0 +1,227 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.docker.asto;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.ext.PublisherAs;
+import hu.akarnokd.rxjava2.interop.SingleInterop;
+import io.reactivex.Single;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Garbage collector of abandoned uploads.
+ * Finds uploads started earlier than allowed age by their `started` marker
+ * and removes all upload data. Supposed to be run periodically in background.
+ * Markers are found by listing repositories root, so uploads of repositories
+ * with no manifest pushed yet are collected too.
+ * Markers with no start time were written by older versions, they are stamped
+ * with the time they are first seen and aged from then on.
+ *
+ * @since 0.13
+ */
+public final class AbandonedUploads {
+
+    /**
+     * Upload started marker name.
+     */
+    private static final String STARTED = "started";
+
+    /**
+     * Repository uploads directory name.
+     */
+    private static final String UPLOADS = "_uploads";
+
+    /**
+     * Asto storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Storage layout.
+     */
+    private final Layout layout;
+
+    /**
+     * Maximum age of upload.
+     */
+    private final Duration age;
+
+    /**
+     * Maximum number of uploads processed concurrently.
+     */
+    private final int parallelism;
+
+    /**
+     * Active uploads registry.
+     */
+    private final UploadSessions sessions;
+
+    /**
+     * Ctor.
+     *
+     * @param storage Asto storage.
+     * @param layout Storage layout.
+     * @param age Maximum age of upload.
+     * @param parallelism Maximum number of uploads processed concurrently.
+     * @checkstyle ParameterNumberCheck (2 lines)
+     */
+    public AbandonedUploads(
+        final Storage storage,
+        final Layout layout,
+        final Duration age,
+        final int parallelism
+    ) {
+        this(storage, layout, age, parallelism, new UploadSessions());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param storage Asto storage.
+     * @param layout Storage layout.
+     * @param age Maximum age of upload.
+     * @param parallelism Maximum number of uploads processed concurrently.
+     * @param sessions Active uploads registry removed uploads are evicted from.
+     * @checkstyle ParameterNumberCheck (2 lines)
+     */
+    public AbandonedUploads(
+        final Storage storage,
+        final Layout layout,
+        final Duration age,
+        final int parallelism,
+        final UploadSessions sessions
+    ) {
+        this.storage = storage;
+        this.layout = layout;
+        this.age = age;
+        this.parallelism = parallelism;
+        this.sessions = sessions;
+    }
+
+    /**
+     * Remove uploads older than maximum age.
+     * Uploads which failed to be removed are skipped and will be retried on next run.
+     *
+     * @return Number of bytes reclaimed.
+     */
+    public CompletionStage<Long> sweep() {
+        final Instant threshold = Instant.now().minus(this.age);
+        return SingleInterop.fromFuture(this.storage.list(this.layout.repositories()))
+            .flattenAsFlowable(keys -> keys)
+            .filter(AbandonedUploads::marker)
+            .flatMapSingle(
+                key -> this.abandoned(key, threshold).flatMap(
+                    abandoned -> {
+                        final Single<Long> reclaimed;
+                        if (abandoned) {
+                            reclaimed = this.remove(key.parent().get());
+                        } else {
+                            reclaimed = Single.just(0L);
+                        }
+                        return reclaimed;
+                    }
+                ).onErrorReturnItem(0L),
+                false,
+                this.parallelism
+            )
+            .reduce(0L, Long::sum)
+            .to(SingleInterop.get());
+    }
+
+    /**
+     * Check key is upload started marker: `<repo>/_uploads/<uuid>/started`.
+     *
+     * @param key Storage key.
+     * @return True if key is marker.
+     */
+    private static boolean marker(final Key key) {
+        return key.string().endsWith(String.format("/%s", AbandonedUploads.STARTED))
+            && key.parent().flatMap(Key::parent).map(Key::string)
+                .filter(
+                    uploads -> uploads.endsWith(String.format("/%s", AbandonedUploads.UPLOADS))
+                )
+                .isPresent();
+    }
+
+    /**
+     * Check upload with specified marker is abandoned.
+     * Marker with no start time is stamped with current time.
+     *
+     * @param marker Upload started marker key.
+     * @param threshold Start time of oldest upload considered alive.
+     * @return True if upload is abandoned.
+     */
+    private Single<Boolean> abandoned(final Key marker, final Instant threshold) {
+        return SingleInterop.fromFuture(
+            this.storage.value(marker)
+                .thenApply(PublisherAs::new)
+                .thenCompose(PublisherAs::asciiString)
+        ).flatMap(
+            text -> {
+                final Single<Boolean> abandoned;
+                if (text.trim().isEmpty()) {
+                    abandoned = SingleInterop.fromFuture(
+                        this.storage.save(
+                            marker,
+                            new Content.From(
+                                String.valueOf(Instant.now().toEpochMilli())
+                                    .getBytes(StandardCharsets.US_ASCII)
+                            )
+                        ).thenApply(saved -> false)
+                    );
+                } else {
+                    abandoned = Single.just(
+                        Instant.ofEpochMilli(Long.parseLong(text.trim())).isBefore(threshold)
+                    );
+                }
+                return abandoned;
+            }
+        );
+    }
+
+    /**
+     * Remove all upload data.
+     *
+     * @param root Upload root key.
+     * @return Number of bytes removed.
+     */
+    private Single<Long> remove(final Key root) {
+        return SingleInterop.fromFuture(this.storage.list(root))
+            .flattenAsFlowable(keys -> keys)
+            .concatMapSingle(
+                key -> SingleInterop.fromFuture(this.storage.size(key)).flatMap(
+                    size -> SingleInterop.fromFuture(
+                        this.storage.delete(key).thenApply(ignored -> size)
+                    )
+                )
+            )
+            .reduce(0L, Long::sum)
+            .doOnSuccess(removed -> this.sessions.finished(root));
+    }
+}
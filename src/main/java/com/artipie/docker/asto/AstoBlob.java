@@ -28,6 +28,7 @@ import com.artipie.asto.Key;
 import com.artipie.asto.Storage;
 import com.artipie.docker.Blob;
 import com.artipie.docker.Digest;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
 /**
@@ -52,6 +53,11 @@ public final class AstoBlob implements Blob {
      */
     private final Digest dig;
 
+    /**
+     * Blobs metadata cache.
+     */
+    private final BlobsCache cache;
+
     /**
      * Ctor.
      *
@@ -60,9 +66,28 @@ public final class AstoBlob implements Blob {
      * @param digest Blob digest.
      */
     public AstoBlob(final Storage storage, final Key key, final Digest digest) {
+        this(storage, key, digest, new BlobsCache());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param storage Storage.
+     * @param key Blob key.
+     * @param digest Blob digest.
+     * @param cache Blobs metadata cache.
+     * @checkstyle ParameterNumberCheck (2 lines)
+     */
+    public AstoBlob(
+        final Storage storage,
+        final Key key,
+        final Digest digest,
+        final BlobsCache cache
+    ) {
         this.storage = storage;
         this.key = key;
         this.dig = digest;
+        this.cache = cache;
     }
 
     @Override
@@ -72,7 +97,16 @@ public final class AstoBlob implements Blob {
 
     @Override
     public CompletionStage<Long> size() {
-        return this.storage.size(this.key);
+        return this.cache.size(this.key)
+            .<CompletionStage<Long>>map(CompletableFuture::completedFuture)
+            .orElseGet(
+                () -> this.storage.size(this.key).thenApply(
+                    size -> {
+                        this.cache.sized(this.key, size);
+                        return size;
+                    }
+                )
+            );
     }
 
     @Override
@@ -30,6 +30,7 @@ import com.artipie.docker.Blob;
 import com.artipie.docker.Digest;
 import com.artipie.docker.RepoName;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
 /**
@@ -53,6 +54,16 @@ public final class AstoBlobs implements BlobStore {
      */
     private final RepoName name;
 
+    /**
+     * Blobs metadata cache.
+     */
+    private final BlobsCache cache;
+
+    /**
+     * Filter of digests present in storage.
+     */
+    private final BlobsFilter filter;
+
     /**
      * Ctor.
      * @param asto Storage
@@ -60,25 +71,41 @@ public final class AstoBlobs implements BlobStore {
      * @param name Repository name.
      */
     public AstoBlobs(final Storage asto, final BlobsLayout layout, final RepoName name) {
+        this(asto, layout, name, new BlobsCache(), new BlobsFilter());
+    }
+
+    /**
+     * Ctor.
+     * @param asto Storage
+     * @param layout Blobs layout.
+     * @param name Repository name.
+     * @param cache Blobs metadata cache.
+     * @param filter Filter of digests present in storage.
+     * @checkstyle ParameterNumberCheck (2 lines)
+     */
+    public AstoBlobs(
+        final Storage asto,
+        final BlobsLayout layout,
+        final RepoName name,
+        final BlobsCache cache,
+        final BlobsFilter filter
+    ) {
         this.asto = asto;
         this.layout = layout;
         this.name = name;
+        this.cache = cache;
+        this.filter = filter;
     }
 
     @Override
     public CompletionStage<Optional<Blob>> blob(final Digest digest) {
-        final Key key = this.layout.blob(this.name, digest);
-        return this.asto.exists(key).thenApply(
-            exists -> {
-                final Optional<Blob> blob;
-                if (exists) {
-                    blob = Optional.of(new AstoBlob(this.asto, key, digest));
-                } else {
-                    blob = Optional.empty();
-                }
-                return blob;
-            }
-        );
+        final CompletionStage<Optional<Blob>> result;
+        if (this.filter.mightContain(digest)) {
+            result = this.lookup(digest);
+        } else {
+            result = CompletableFuture.completedFuture(Optional.empty());
+        }
+        return result;
     }
 
     @Override
@@ -86,7 +113,45 @@ public final class AstoBlobs implements BlobStore {
         final Digest digest = source.digest();
         final Key key = this.layout.blob(this.name, digest);
         return source.saveTo(this.asto, key).thenApply(
-            nothing -> new AstoBlob(this.asto, key, digest)
+            nothing -> {
+                this.cache.present(key);
+                this.filter.add(digest);
+                return new AstoBlob(this.asto, key, digest, this.cache);
+            }
         );
     }
+
+    /**
+     * Look up blob in cache or storage.
+     *
+     * @param digest Blob digest.
+     * @return Blob if exists.
+     */
+    private CompletionStage<Optional<Blob>> lookup(final Digest digest) {
+        final Key key = this.layout.blob(this.name, digest);
+        return this.cache.exists(key)
+            .<CompletionStage<Boolean>>map(CompletableFuture::completedFuture)
+            .orElseGet(
+                () -> this.asto.exists(key).thenApply(
+                    exists -> {
+                        if (exists) {
+                            this.cache.present(key);
+                        } else {
+                            this.cache.absent(key);
+                        }
+                        return exists;
+                    }
+                )
+            ).thenApply(
+                exists -> {
+                    final Optional<Blob> blob;
+                    if (exists) {
+                        blob = Optional.of(new AstoBlob(this.asto, key, digest, this.cache));
+                    } else {
+                        blob = Optional.empty();
+                    }
+                    return blob;
+                }
+            );
+    }
 }
@@ -24,35 +24,28 @@
 package com.artipie.docker.asto;
 
 import com.artipie.asto.Content;
-import com.artipie.asto.Key;
 import com.artipie.docker.Catalog;
 import com.artipie.docker.RepoName;
 import com.artipie.docker.misc.CatalogPage;
-import java.util.Collection;
+import com.artipie.docker.misc.PageNext;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 
 /**
- * Asto implementation of {@link Catalog}. Catalog created from list of keys.
+ * Asto implementation of {@link Catalog}.
+ * Catalog created from repository names page.
  *
  * @since 0.9
  */
 final class AstoCatalog implements Catalog {
 
     /**
-     * Repositories root key.
+     * Ordered repository names page.
      */
-    private final Key root;
-
-    /**
-     * List of keys inside repositories root.
-     */
-    private final Collection<Key> keys;
-
-    /**
-     * From which name to start, exclusive.
-     */
-    private final Optional<RepoName> from;
+    private final List<String> page;
 
     /**
      * Maximum number of names returned.
@@ -62,37 +55,32 @@ final class AstoCatalog implements Catalog {
     /**
      * Ctor.
      *
-     * @param root Repositories root key.
-     * @param keys List of keys inside repositories root.
-     * @param from From which tag to start, exclusive.
-     * @param limit Maximum number of tags returned.
-     * @checkstyle ParameterNumberCheck (2 lines)
+     * @param page Ordered repository names page.
+     * @param limit Maximum number of names returned.
      */
-    AstoCatalog(
-        final Key root,
-        final Collection<Key> keys,
-        final Optional<RepoName> from,
-        final int limit
-    ) {
-        this.root = root;
-        this.keys = keys;
-        this.from = from;
+    AstoCatalog(final List<String> page, final int limit) {
+        this.page = page;
         this.limit = limit;
     }
 
     @Override
     public Content json() {
-        return new CatalogPage(this.repos(), this.from, this.limit).json();
+        return new CatalogPage(
+            this.page.stream().map(RepoName.Simple::new).collect(Collectors.toList()),
+            Optional.empty(),
+            Integer.MAX_VALUE
+        ).json();
     }
 
-    /**
-     * Convert keys to ordered set of repository names.
-     *
-     * @return Ordered repository names.
-     */
-    private Collection<RepoName> repos() {
-        return new Children(this.root, this.keys).names().stream()
-            .map(RepoName.Simple::new)
-            .collect(Collectors.toList());
+    @Override
+    public CompletionStage<List<RepoName>> repos() {
+        return CompletableFuture.completedFuture(
+            this.page.stream().map(RepoName.Simple::new).collect(Collectors.toList())
+        );
+    }
+
+    @Override
+    public Optional<RepoName> next() {
+        return new PageNext(this.page, this.limit).value().map(RepoName.Simple::new);
     }
 }
@@ -24,7 +24,6 @@
 
 package com.artipie.docker.asto;
 
-import com.artipie.asto.Key;
 import com.artipie.asto.Storage;
 import com.artipie.docker.Catalog;
 import com.artipie.docker.Docker;
@@ -49,6 +48,11 @@ public final class AstoDocker implements Docker {
      */
     private final Layout layout;
 
+    /**
+     * Settings shared by all repositories.
+     */
+    private final AstoSettings settings;
+
     /**
      * Ctor.
      * @param asto Asto storage
@@ -64,18 +68,36 @@ public final class AstoDocker implements Docker {
      * @param layout Storage layout.
      */
     public AstoDocker(final Storage asto, final Layout layout) {
+        this(asto, layout, new AstoSettings());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param asto Storage.
+     * @param layout Storage layout.
+     * @param settings Settings shared by all repositories.
+     */
+    public AstoDocker(final Storage asto, final Layout layout, final AstoSettings settings) {
         this.asto = asto;
         this.layout = layout;
+        this.settings = settings;
     }
 
     @Override
     public Repo repo(final RepoName name) {
-        return new AstoRepo(this.asto, this.layout, name);
+        return new AstoRepo(this.asto, this.layout, name, this.settings);
     }
 
     @Override
     public CompletionStage<Catalog> catalog(final Optional<RepoName> from, final int limit) {
-        final Key root = this.layout.repositories();
-        return this.asto.list(root).thenApply(keys -> new AstoCatalog(root, keys, from, limit));
+        return new NamesIndex(
+            this.asto,
+            this.layout.catalog(),
+            new ListedRepositories(this.layout.repositories()),
+            this.settings.manifests()
+        ).page(from.map(RepoName::value), limit).thenApply(
+            page -> new AstoCatalog(page, limit)
+        );
     }
 }
@@ -28,6 +28,7 @@ import com.artipie.docker.Blob;
 import com.artipie.docker.Digest;
 import com.artipie.docker.Layers;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
 /**
@@ -56,10 +57,29 @@ public final class AstoLayers implements Layers {
         return this.blobs.put(source);
     }
 
+    /**
+     * Mount blob from another repository.
+     * When blob is already located at this repository's key, as it is for
+     * layouts with global blob store, mount is an existence check only and
+     * blob content is never read. Otherwise blob content is copied.
+     *
+     * @param blob Blob.
+     * @return Mounted blob.
+     */
     @Override
     public CompletionStage<Blob> mount(final Blob blob) {
-        return blob.content().thenCompose(
-            content -> this.blobs.put(new TrustedBlobSource(content, blob.digest()))
+        return this.blobs.blob(blob.digest()).thenCompose(
+            found -> {
+                final CompletionStage<Blob> result;
+                if (found.isPresent()) {
+                    result = CompletableFuture.completedFuture(found.get());
+                } else {
+                    result = blob.content().thenCompose(
+                        content -> this.blobs.put(new TrustedBlobSource(content, blob.digest()))
+                    );
+                }
+                return result;
+            }
         );
     }
 
@@ -36,13 +36,16 @@ import com.artipie.docker.error.InvalidManifestException;
 import com.artipie.docker.manifest.JsonManifest;
 import com.artipie.docker.manifest.Layer;
 import com.artipie.docker.manifest.Manifest;
+import com.artipie.docker.manifest.ManifestBytes;
+import com.artipie.docker.manifest.ManifestMeta;
 import com.artipie.docker.ref.ManifestRef;
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import javax.json.JsonException;
 
 /**
  * Asto implementation of {@link Manifests}.
@@ -71,6 +74,16 @@ public final class AstoManifests implements Manifests {
      */
     private final RepoName name;
 
+    /**
+     * Manifests cache.
+     */
+    private final ManifestsCache cache;
+
+    /**
+     * Maximum manifest size in bytes.
+     */
+    private final long maxsize;
+
     /**
      * Ctor.
      *
@@ -85,22 +98,72 @@ public final class AstoManifests implements Manifests {
         final BlobStore blobs,
         final ManifestsLayout layout,
         final RepoName name
+    ) {
+        this(asto, blobs, layout, name, new ManifestsCache());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param asto Asto storage
+     * @param blobs Blobs storage.
+     * @param layout Manifests layout.
+     * @param name Repository name
+     * @param cache Manifests cache.
+     * @checkstyle ParameterNumberCheck (2 lines)
+     */
+    public AstoManifests(
+        final Storage asto,
+        final BlobStore blobs,
+        final ManifestsLayout layout,
+        final RepoName name,
+        final ManifestsCache cache
+    ) {
+        this(asto, blobs, layout, name, cache, ManifestBytes.LIMIT);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param asto Asto storage
+     * @param blobs Blobs storage.
+     * @param layout Manifests layout.
+     * @param name Repository name
+     * @param cache Manifests cache.
+     * @param maxsize Maximum manifest size in bytes.
+     * @checkstyle ParameterNumberCheck (2 lines)
+     */
+    public AstoManifests(
+        final Storage asto,
+        final BlobStore blobs,
+        final ManifestsLayout layout,
+        final RepoName name,
+        final ManifestsCache cache,
+        final long maxsize
     ) {
         this.asto = asto;
         this.blobs = blobs;
         this.layout = layout;
         this.name = name;
+        this.cache = cache;
+        this.maxsize = maxsize;
     }
 
     @Override
     public CompletionStage<Manifest> put(final ManifestRef ref, final Content content) {
-        return new PublisherAs(content).bytes().thenCompose(
+        return new ManifestBytes(content, this.maxsize).value().thenCompose(
             bytes -> this.blobs.put(new TrustedBlobSource(bytes))
                 .thenApply(blob -> new JsonManifest(blob.digest(), bytes))
                 .thenCompose(
                     manifest -> this.validate(manifest)
                         .thenCompose(nothing -> this.addManifestLinks(ref, manifest.digest()))
-                        .thenApply(nothing -> manifest)
+                        .thenCompose(nothing -> this.saveMeta(manifest, bytes.length))
+                        .thenApply(
+                            nothing -> {
+                                this.cache.manifest(manifest.digest(), bytes);
+                                return manifest;
+                            }
+                        )
                 )
         );
     }
@@ -109,19 +172,32 @@ public final class AstoManifests implements Manifests {
     public CompletionStage<Optional<Manifest>> get(final ManifestRef ref) {
         return this.readLink(ref).thenCompose(
             digestOpt -> digestOpt.map(
-                digest -> this.blobs.blob(digest)
-                    .thenCompose(
-                        blobOpt -> blobOpt
-                            .map(
-                                blob -> blob.content()
-                                    .thenApply(PublisherAs::new)
-                                    .thenCompose(PublisherAs::bytes)
-                                    .<Manifest>thenApply(
-                                        bytes -> new JsonManifest(blob.digest(), bytes)
-                                    )
-                                    .thenApply(Optional::of)
-                            )
-                            .orElseGet(() -> CompletableFuture.completedFuture(Optional.empty()))
+                digest -> this.cache.manifest(digest)
+                    .<CompletionStage<Optional<Manifest>>>map(
+                        bytes -> CompletableFuture.completedFuture(
+                            Optional.of(new JsonManifest(digest, bytes))
+                        )
+                    )
+                    .orElseGet(() -> this.read(digest))
+            ).orElseGet(() -> CompletableFuture.completedFuture(Optional.empty()))
+        );
+    }
+
+    @Override
+    public CompletionStage<Optional<ManifestMeta>> meta(final ManifestRef ref) {
+        return this.readLink(ref).thenCompose(
+            digestOpt -> digestOpt.map(
+                digest -> this.cache.meta(digest)
+                    .<CompletionStage<Optional<ManifestMeta>>>map(
+                        meta -> CompletableFuture.completedFuture(Optional.of(meta))
+                    )
+                    .orElseGet(
+                        () -> this.readMeta(digest).thenApply(
+                            found -> {
+                                found.ifPresent(this.cache::meta);
+                                return found;
+                            }
+                        )
                     )
             ).orElseGet(() -> CompletableFuture.completedFuture(Optional.empty()))
         );
@@ -129,51 +205,133 @@ public final class AstoManifests implements Manifests {
 
     @Override
     public CompletionStage<Tags> tags(final Optional<Tag> from, final int limit) {
-        final Key root = this.layout.tags(this.name);
-        return this.asto.list(root).thenApply(
-            keys -> new AstoTags(this.name, root, keys, from, limit)
+        return this.index().page(from.map(Tag::value), limit).thenApply(
+            page -> new AstoTags(this.name, page, limit)
         );
     }
 
+    /**
+     * Read manifest from blob storage.
+     *
+     * @param digest Manifest digest.
+     * @return Manifest, empty if blob is absent.
+     */
+    private CompletionStage<Optional<Manifest>> read(final Digest digest) {
+        return this.blobs.blob(digest).thenCompose(
+            blobOpt -> blobOpt
+                .map(
+                    blob -> blob.content()
+                        .thenApply(PublisherAs::new)
+                        .thenCompose(PublisherAs::bytes)
+                        .<Manifest>thenApply(
+                            bytes -> {
+                                this.cache.manifest(blob.digest(), bytes);
+                                return new JsonManifest(blob.digest(), bytes);
+                            }
+                        )
+                        .thenApply(Optional::of)
+                )
+                .orElseGet(() -> CompletableFuture.completedFuture(Optional.empty()))
+        );
+    }
+
+    /**
+     * Read manifest metadata from storage.
+     * Falls back to reading whole manifest if metadata was not saved.
+     *
+     * @param digest Manifest digest.
+     * @return Manifest metadata, empty if manifest is absent.
+     */
+    private CompletionStage<Optional<ManifestMeta>> readMeta(final Digest digest) {
+        final Key key = this.layout.meta(this.name, digest);
+        return this.asto.exists(key).thenCompose(
+            exists -> {
+                final CompletionStage<Optional<ManifestMeta>> result;
+                if (exists) {
+                    result = this.asto.value(key)
+                        .thenApply(PublisherAs::new)
+                        .thenCompose(PublisherAs::bytes)
+                        .thenApply(bytes -> Optional.of(new ManifestMeta(digest, bytes)));
+                } else {
+                    result = this.read(digest).thenApply(
+                        found -> found.map(
+                            manifest -> new ManifestMeta(
+                                digest,
+                                manifest.mediaType(),
+                                manifest.content().size().get()
+                            )
+                        )
+                    );
+                }
+                return result;
+            }
+        );
+    }
+
+    /**
+     * Save manifest metadata next to manifest links and remember it in cache.
+     * Metadata is an optimisation, so failure to save it is ignored.
+     *
+     * @param manifest Manifest.
+     * @param size Manifest content size.
+     * @return Completion of saving.
+     */
+    private CompletionStage<Void> saveMeta(final Manifest manifest, final long size) {
+        return CompletableFuture.completedFuture(manifest).thenCompose(
+            mnf -> {
+                final ManifestMeta meta = new ManifestMeta(mnf.digest(), mnf.mediaType(), size);
+                return this.asto.save(
+                    this.layout.meta(this.name, mnf.digest()), new Content.From(meta.bytes())
+                ).thenAccept(nothing -> this.cache.meta(meta));
+            }
+        ).exceptionally(ignored -> null);
+    }
+
     /**
      * Validates manifest by checking all referenced blobs exist.
+     * For manifest list or OCI image index child manifests are checked,
+     * for image manifest config and layers are checked.
+     * Any failure to read manifest structure means manifest is invalid.
      *
      * @param manifest Manifest.
      * @return Validation completion.
      */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
     private CompletionStage<Void> validate(final Manifest manifest) {
-        final Stream<Digest> digests;
+        final Collection<Digest> digests;
         try {
-            digests = Stream.concat(
-                Stream.of(manifest.config()),
-                manifest.layers().stream()
-                    .filter(layer -> layer.urls().isEmpty())
-                    .map(Layer::digest)
-            );
-        } catch (final JsonException ex) {
+            if (manifest.index()) {
+                digests = manifest.manifests();
+            } else {
+                digests = Stream.concat(
+                    Stream.of(manifest.config()),
+                    manifest.layers().stream()
+                        .filter(layer -> layer.urls().isEmpty())
+                        .map(Layer::digest)
+                ).collect(Collectors.toList());
+            }
+        } catch (final RuntimeException ex) {
             throw new InvalidManifestException(
                 String.format("Failed to parse manifest: %s", ex.getMessage()),
                 ex
             );
         }
-        return CompletableFuture.allOf(
-            digests.map(
-                digest -> this.blobs.blob(digest).thenCompose(
-                    opt -> {
-                        if (!opt.isPresent()) {
-                            throw new InvalidManifestException(
-                                String.format("Blob does not exist: %s", digest)
-                            );
-                        }
-                        return CompletableFuture.allOf();
-                    }
-                ).toCompletableFuture()
-            ).toArray(CompletableFuture[]::new)
+        return this.blobs.missing(digests).thenAccept(
+            missing -> {
+                if (missing.isPresent()) {
+                    throw new InvalidManifestException(
+                        String.format("Blob does not exist: %s", missing.get())
+                    );
+                }
+            }
         );
     }
 
     /**
-     * Adds links to manifest blob by reference and by digest.
+     * Adds links to manifest blob by reference and by digest,
+     * updates tags index and adds repository to catalog.
+     * Catalog is updated on every push, so repository missing in catalog, e.g. if
+     * catalog update failed on first push, is added by the next one.
      *
      * @param ref Manifest reference.
      * @param digest Blob digest.
@@ -183,6 +341,49 @@ public final class AstoManifests implements Manifests {
         return CompletableFuture.allOf(
             this.addLink(new ManifestRef.FromDigest(digest), digest),
             this.addLink(ref, digest)
+        ).thenCompose(
+            nothing -> {
+                final CompletionStage<Void> tagged;
+                if (new Digest.FromString(ref.string()).valid()) {
+                    tagged = this.asto.exists(this.layout.tagsIndex(this.name)).thenCompose(
+                        indexed -> {
+                            final CompletionStage<Void> built;
+                            if (indexed) {
+                                built = CompletableFuture.allOf();
+                            } else {
+                                built = this.index().page(Optional.empty(), 0)
+                                    .thenApply(page -> (Void) null);
+                            }
+                            return built;
+                        }
+                    );
+                } else {
+                    tagged = this.index().add(ref.string());
+                }
+                return tagged;
+            }
+        ).thenCompose(
+            nothing -> new NamesIndex(
+                this.asto,
+                this.layout.catalog(),
+                new ListedRepositories(this.layout.repositories()),
+                this.cache
+            ).add(this.name.value())
+        );
+    }
+
+    /**
+     * Sorted tags index of repository.
+     *
+     * @return Tags index.
+     */
+    private NamesIndex index() {
+        final Key root = this.layout.tags(this.name);
+        return new NamesIndex(
+            this.asto,
+            this.layout.tagsIndex(this.name),
+            sto -> sto.list(root).thenApply(keys -> new Children(root, keys).names()),
+            this.cache
         );
     }
 
@@ -194,10 +395,11 @@ public final class AstoManifests implements Manifests {
      * @return Link key.
      */
     private CompletableFuture<Void> addLink(final ManifestRef ref, final Digest digest) {
+        final Key key = this.layout.manifest(this.name, ref);
         return this.asto.save(
-            this.layout.manifest(this.name, ref),
+            key,
             new Content.From(digest.string().getBytes(StandardCharsets.US_ASCII))
-        ).toCompletableFuture();
+        ).thenRun(() -> this.cache.link(key, digest)).toCompletableFuture();
     }
 
     /**
@@ -208,6 +410,18 @@ public final class AstoManifests implements Manifests {
      */
     private CompletableFuture<Optional<Digest>> readLink(final ManifestRef ref) {
         final Key key = this.layout.manifest(this.name, ref);
+        return this.cache.link(key)
+            .map(digest -> CompletableFuture.completedFuture(Optional.of(digest)))
+            .orElseGet(() -> this.readStoredLink(key));
+    }
+
+    /**
+     * Reads link to blob from storage.
+     *
+     * @param key Link key.
+     * @return Blob digest, empty if no link found.
+     */
+    private CompletableFuture<Optional<Digest>> readStoredLink(final Key key) {
         return this.asto.exists(key).thenCompose(
             exists -> {
                 final CompletionStage<Optional<Digest>> stage;
@@ -217,7 +431,12 @@ public final class AstoManifests implements Manifests {
                             pub -> new PublisherAs(pub).asciiString()
                         )
                         .<Digest>thenApply(Digest.FromString::new)
-                        .thenApply(Optional::of);
+                        .thenApply(
+                            digest -> {
+                                this.cache.link(key, digest);
+                                return Optional.of(digest);
+                            }
+                        );
                 } else {
                     stage = CompletableFuture.completedFuture(Optional.empty());
                 }
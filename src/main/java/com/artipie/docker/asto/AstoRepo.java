@@ -54,6 +54,11 @@ public final class AstoRepo implements Repo {
      */
     private final Layout layout;
 
+    /**
+     * Settings shared by all repositories.
+     */
+    private final AstoSettings settings;
+
     /**
      * Ctor.
      *
@@ -62,9 +67,28 @@ public final class AstoRepo implements Repo {
      * @param name Repository name
      */
     public AstoRepo(final Storage asto, final Layout layout, final RepoName name) {
+        this(asto, layout, name, new AstoSettings());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param asto Asto storage
+     * @param layout Storage layout.
+     * @param name Repository name
+     * @param settings Settings shared by all repositories.
+     * @checkstyle ParameterNumberCheck (2 lines)
+     */
+    public AstoRepo(
+        final Storage asto,
+        final Layout layout,
+        final RepoName name,
+        final AstoSettings settings
+    ) {
         this.asto = asto;
         this.layout = layout;
         this.name = name;
+        this.settings = settings;
     }
 
     @Override
@@ -74,12 +98,15 @@ public final class AstoRepo implements Repo {
 
     @Override
     public Manifests manifests() {
-        return new AstoManifests(this.asto, this.blobs(), this.layout, this.name);
+        return new AstoManifests(
+            this.asto, this.blobs(), this.layout, this.name,
+            this.settings.manifests(), this.settings.manifestLimit()
+        );
     }
 
     @Override
     public Uploads uploads() {
-        return new AstoUploads(this.asto, this.layout, this.name);
+        return new AstoUploads(this.asto, this.layout, this.name, this.settings.sessions());
     }
 
     /**
@@ -88,6 +115,8 @@ public final class AstoRepo implements Repo {
      * @return Blobs storage.
      */
     private AstoBlobs blobs() {
-        return new AstoBlobs(this.asto, this.layout, this.name);
+        return new AstoBlobs(
+            this.asto, this.layout, this.name, this.settings.blobs(), this.settings.filter()
+        );
     }
 }
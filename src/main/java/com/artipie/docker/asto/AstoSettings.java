@@ -0,0 +1,139 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.docker.asto;
+
+import com.artipie.docker.manifest.ManifestBytes;
+
+/**
+ * Settings of asto registry shared by all repositories:
+ * in-memory caches, active uploads registry and limits.
+ *
+ * @since 0.13
+ */
+public final class AstoSettings {
+
+    /**
+     * Active uploads registry.
+     */
+    private final UploadSessions usessions;
+
+    /**
+     * Blobs metadata cache.
+     */
+    private final BlobsCache bcache;
+
+    /**
+     * Filter of digests present in storage.
+     */
+    private final BlobsFilter bfilter;
+
+    /**
+     * Manifests cache.
+     */
+    private final ManifestsCache mcache;
+
+    /**
+     * Maximum manifest size in bytes.
+     */
+    private final long maxsize;
+
+    /**
+     * Ctor for default settings with disabled caches.
+     */
+    public AstoSettings() {
+        this(
+            new UploadSessions(), new BlobsCache(), new BlobsFilter(), new ManifestsCache(),
+            ManifestBytes.LIMIT
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param sessions Active uploads registry.
+     * @param cache Blobs metadata cache.
+     * @param filter Filter of digests present in storage.
+     * @param manifests Manifests cache.
+     * @param maxsize Maximum manifest size in bytes.
+     * @checkstyle ParameterNumberCheck (2 lines)
+     */
+    public AstoSettings(
+        final UploadSessions sessions,
+        final BlobsCache cache,
+        final BlobsFilter filter,
+        final ManifestsCache manifests,
+        final long maxsize
+    ) {
+        this.usessions = sessions;
+        this.bcache = cache;
+        this.bfilter = filter;
+        this.mcache = manifests;
+        this.maxsize = maxsize;
+    }
+
+    /**
+     * Active uploads registry.
+     *
+     * @return Uploads registry.
+     */
+    public UploadSessions sessions() {
+        return this.usessions;
+    }
+
+    /**
+     * Blobs metadata cache.
+     *
+     * @return Blobs cache.
+     */
+    public BlobsCache blobs() {
+        return this.bcache;
+    }
+
+    /**
+     * Filter of digests present in storage.
+     *
+     * @return Blobs filter.
+     */
+    public BlobsFilter filter() {
+        return this.bfilter;
+    }
+
+    /**
+     * Manifests cache.
+     *
+     * @return Manifests cache.
+     */
+    public ManifestsCache manifests() {
+        return this.mcache;
+    }
+
+    /**
+     * Maximum manifest size in bytes.
+     *
+     * @return Size limit.
+     */
+    public long manifestLimit() {
+        return this.maxsize;
+    }
+}
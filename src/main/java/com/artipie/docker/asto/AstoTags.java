@@ -24,18 +24,20 @@
 package com.artipie.docker.asto;
 
 import com.artipie.asto.Content;
-import com.artipie.asto.Key;
 import com.artipie.docker.RepoName;
 import com.artipie.docker.Tag;
 import com.artipie.docker.Tags;
-import java.util.Collection;
+import com.artipie.docker.misc.NamesJsonFlowable;
+import com.artipie.docker.misc.PageNext;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
-import javax.json.Json;
-import javax.json.JsonArrayBuilder;
 
 /**
- * Asto implementation of {@link Tags}. Tags created from list of keys.
+ * Asto implementation of {@link Tags}. Tags created from tags page.
  *
  * @since 0.8
  */
@@ -47,19 +49,9 @@ final class AstoTags implements Tags {
     private final RepoName name;
 
     /**
-     * Tags root key.
+     * Ordered tags page.
      */
-    private final Key root;
-
-    /**
-     * List of keys inside tags root.
-     */
-    private final Collection<Key> keys;
-
-    /**
-     * From which tag to start, exclusive.
-     */
-    private final Optional<Tag> from;
+    private final List<String> page;
 
     /**
      * Maximum number of tags returned.
@@ -70,52 +62,33 @@ final class AstoTags implements Tags {
      * Ctor.
      *
      * @param name Repository name.
-     * @param root Tags root key.
-     * @param keys List of keys inside tags root.
-     * @param from From which tag to start, exclusive.
+     * @param page Ordered tags page.
      * @param limit Maximum number of tags returned.
-     * @checkstyle ParameterNumberCheck (2 lines)
      */
-    AstoTags(
-        final RepoName name,
-        final Key root,
-        final Collection<Key> keys,
-        final Optional<Tag> from,
-        final int limit
-    ) {
+    AstoTags(final RepoName name, final List<String> page, final int limit) {
         this.name = name;
-        this.root = root;
-        this.keys = keys;
-        this.from = from;
+        this.page = page;
         this.limit = limit;
     }
 
     @Override
     public Content json() {
-        final JsonArrayBuilder builder = Json.createArrayBuilder();
-        this.tags().stream()
-            .map(Tag::value)
-            .filter(tag -> this.from.map(last -> tag.compareTo(last.value()) > 0).orElse(true))
-            .limit(this.limit)
-            .forEach(builder::add);
         return new Content.From(
-            Json.createObjectBuilder()
-                .add("name", this.name.value())
-                .add("tags", builder)
-                .build()
-                .toString()
-                .getBytes()
+            new NamesJsonFlowable(
+                Collections.singletonMap("name", this.name.value()), "tags", this.page
+            )
         );
     }
 
-    /**
-     * Convert keys to ordered set of tags.
-     *
-     * @return Ordered tags.
-     */
-    private Collection<Tag> tags() {
-        return new Children(this.root, this.keys).names().stream()
-            .map(Tag.Valid::new)
-            .collect(Collectors.toList());
+    @Override
+    public CompletionStage<List<Tag>> tags() {
+        return CompletableFuture.completedFuture(
+            this.page.stream().map(Tag.Valid::new).collect(Collectors.toList())
+        );
+    }
+
+    @Override
+    public Optional<Tag> next() {
+        return new PageNext(this.page, this.limit).value().map(Tag.Valid::new);
     }
 }
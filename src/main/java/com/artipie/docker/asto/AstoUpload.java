@@ -27,19 +27,31 @@ import com.artipie.asto.Content;
 import com.artipie.asto.FailedCompletionStage;
 import com.artipie.asto.Key;
 import com.artipie.asto.Storage;
+import com.artipie.asto.ext.PublisherAs;
 import com.artipie.docker.Blob;
 import com.artipie.docker.Digest;
 import com.artipie.docker.Layers;
 import com.artipie.docker.RepoName;
 import com.artipie.docker.Upload;
 import com.artipie.docker.error.InvalidDigestException;
-import com.artipie.docker.misc.DigestedFlowable;
+import com.artipie.docker.error.InvalidUploadException;
+import com.artipie.docker.misc.HashingScheduler;
+import com.artipie.docker.misc.ResumableSha256;
+import hu.akarnokd.rxjava2.interop.SingleInterop;
+import io.reactivex.Flowable;
 import java.nio.ByteBuffer;
-import java.util.Collection;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.reactivestreams.Publisher;
 
 /**
@@ -70,6 +82,11 @@ public final class AstoUpload implements Upload {
     @SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
     private final String uuid;
 
+    /**
+     * Active uploads registry.
+     */
+    private final UploadSessions sessions;
+
     /**
      * Ctor.
      *
@@ -84,11 +101,32 @@ public final class AstoUpload implements Upload {
         final UploadsLayout layout,
         final RepoName name,
         final String uuid
+    ) {
+        this(storage, layout, name, uuid, new UploadSessions());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param storage Storage.
+     * @param layout Uploads layout.
+     * @param name Repository name.
+     * @param uuid Upload UUID.
+     * @param sessions Active uploads registry.
+     * @checkstyle ParameterNumberCheck (2 lines)
+     */
+    public AstoUpload(
+        final Storage storage,
+        final UploadsLayout layout,
+        final RepoName name,
+        final String uuid,
+        final UploadSessions sessions
     ) {
         this.storage = storage;
         this.layout = layout;
         this.name = name;
         this.uuid = uuid;
+        this.sessions = sessions;
     }
 
     @Override
@@ -98,80 +136,90 @@ public final class AstoUpload implements Upload {
 
     @Override
     public CompletionStage<Void> start() {
-        return this.storage.save(this.started(), new Content.From(new byte[0]));
+        return CompletableFuture.allOf(
+            this.storage.save(
+                this.started(),
+                new Content.From(
+                    String.valueOf(Instant.now().toEpochMilli())
+                        .getBytes(StandardCharsets.US_ASCII)
+                )
+            ),
+            this.save(new UploadSession()).toCompletableFuture()
+        ).thenRun(() -> this.sessions.started(this.root()));
     }
 
     @Override
     public CompletionStage<Long> append(final Publisher<ByteBuffer> chunk) {
-        return this.chunks().thenCompose(
-            chunks -> {
-                if (chunks.size() > 0) {
-                    throw new UnsupportedOperationException("Multiple chunks are not supported");
-                }
-                final Key tmp = new Key.From(this.root(), UUID.randomUUID().toString());
-                final DigestedFlowable data = new DigestedFlowable(chunk);
-                return this.storage.save(tmp, new Content.From(data)).thenCompose(
-                    nothing -> {
-                        final Key key = this.chunk(data.digest());
-                        return this.storage.move(tmp, key).thenApply(ignored -> key);
-                    }
-                ).thenCompose(
-                    key -> this.storage.size(key).thenApply(updated -> updated - 1)
-                );
-            }
+        return this.session().thenCompose(
+            session -> this.write(session, session.end(), Optional.empty(), chunk)
         );
     }
 
+    @Override
+    public CompletionStage<Long> write(
+        final long start, final long end, final Publisher<ByteBuffer> chunk
+    ) {
+        final CompletionStage<Long> result;
+        if (end < start) {
+            result = new FailedCompletionStage<>(
+                new InvalidUploadException(String.format("Invalid range %d-%d", start, end))
+            );
+        } else {
+            result = this.session().thenCompose(
+                session -> this.write(session, start, Optional.of(end), chunk)
+            );
+        }
+        return result;
+    }
+
     @Override
     public CompletionStage<Long> offset() {
-        return this.chunks().thenCompose(
-            chunks -> {
-                final CompletionStage<Long> result;
-                if (chunks.isEmpty()) {
-                    result = CompletableFuture.completedFuture(0L);
-                } else {
-                    final Key key = chunks.iterator().next();
-                    result = this.storage.size(key).thenApply(size -> Math.max(size - 1, 0));
-                }
-                return result;
-            }
-        );
+        return this.sessions.size(this.root())
+            .<CompletionStage<Long>>map(CompletableFuture::completedFuture)
+            .orElseGet(() -> this.session().thenApply(UploadSession::end))
+            .thenApply(end -> Math.max(end - 1, 0));
     }
 
     @Override
     public CompletionStage<Blob> putTo(final Layers layers, final Digest digest) {
-        final Key source = this.chunk(digest);
-        return this.storage.exists(source).thenCompose(
-            exists -> {
-                final CompletionStage<Blob> result;
-                if (exists) {
-                    result = layers.put(
-                        new BlobSource() {
-                            @Override
-                            public Digest digest() {
-                                return digest;
-                            }
-
-                            @Override
-                            public CompletionStage<Void> saveTo(final Storage asto, final Key key) {
-                                return asto.move(source, key);
+        return this.session().thenCompose(
+            session -> this.chunks().thenCompose(
+                chunks -> this.contiguous(chunks).thenCompose(
+                    size -> {
+                        final CompletionStage<Blob> result;
+                        if (session.hashed() && size == session.end()) {
+                            final Digest calculated = session.sha().digest();
+                            if (calculated.string().equals(digest.string())) {
+                                result = layers.put(this.verified(chunks, digest)).thenCompose(
+                                    blob -> this.delete(AstoUpload.unmoved(chunks))
+                                        .thenApply(nothing -> blob)
+                                );
+                            } else {
+                                result = new FailedCompletionStage<>(
+                                    new InvalidDigestException(
+                                        String.format(
+                                            "calculated: %s expected: %s",
+                                            calculated.hex(), digest.hex()
+                                        )
+                                    )
+                                );
                             }
+                        } else {
+                            result = layers.put(
+                                new CheckedBlobSource(this.content(chunks), digest)
+                            ).thenCompose(
+                                blob -> this.delete(chunks).thenApply(nothing -> blob)
+                            );
                         }
-                    ).thenCompose(
-                        blob -> this.delete().thenApply(nothing -> blob)
-                    );
-                } else {
-                    result = new FailedCompletionStage<>(
-                        new InvalidDigestException(digest.toString())
-                    );
-                }
-                return result;
-            }
+                        return result;
+                    }
+                )
+            )
         );
     }
 
     /**
-     * Root key for upload chunks.
+     * Root key for upload data.
      *
      * @return Root key.
      */
@@ -189,40 +237,312 @@ public final class AstoUpload implements Upload {
     }
 
     /**
-     * Build upload chunk key for given digest.
+     * Upload session metadata key.
+     *
+     * @return Key.
+     */
+    private Key sessionKey() {
+        return new Key.From(this.root(), "session");
+    }
+
+    /**
+     * Read upload session metadata.
+     *
+     * @return Upload session.
+     */
+    private CompletionStage<UploadSession> session() {
+        return this.storage.value(this.sessionKey())
+            .thenApply(PublisherAs::new)
+            .thenCompose(PublisherAs::bytes)
+            .thenApply(UploadSession::new);
+    }
+
+    /**
+     * Save upload session metadata.
+     *
+     * @param session Upload session.
+     * @return Completion of save operation.
+     */
+    private CompletionStage<Void> save(final UploadSession session) {
+        return this.storage.save(this.sessionKey(), new Content.From(session.bytes()));
+    }
+
+    /**
+     * Writes chunk of data at specified position of upload.
+     * Chunk of unknown size following already hashed data is saved once straight
+     * to it's place while being hashed, and advances upload session.
+     * Other chunks are saved to temporary location counting their size on the way
+     * and moved to their place once the size is checked, so rejected data never
+     * becomes part of upload. Chunks written out of order are assembled
+     * and verified when upload is finished.
      *
-     * @param digest Digest.
+     * @param session Current upload session.
+     * @param start Offset of chunk first byte.
+     * @param expected Expected offset of chunk last byte, empty if not known.
+     * @param chunk Chunk of data.
+     * @return Offset of chunk last byte.
+     * @checkstyle ParameterNumberCheck (2 lines)
+     */
+    private CompletionStage<Long> write(
+        final UploadSession session,
+        final long start,
+        final Optional<Long> expected,
+        final Publisher<ByteBuffer> chunk
+    ) {
+        final Key target = this.chunk(start);
+        return this.storage.exists(target).thenCompose(
+            exists -> {
+                final CompletionStage<Long> result;
+                if (exists || start < session.end()) {
+                    result = new FailedCompletionStage<>(
+                        new InvalidUploadException(
+                            String.format("Data at offset %d is already uploaded", start)
+                        )
+                    );
+                } else if (start == session.end() && !expected.isPresent()) {
+                    result = this.save(session, chunk, target);
+                } else {
+                    result = this.save(session, start, expected, chunk, target);
+                }
+                return result;
+            }
+        );
+    }
+
+    /**
+     * Saves chunk of data following already hashed data straight to chunk location,
+     * hashing it on the way, and advances upload session.
+     *
+     * @param session Current upload session.
+     * @param chunk Chunk of data.
+     * @param target Chunk location.
+     * @return Offset of chunk last byte.
+     */
+    private CompletionStage<Long> save(
+        final UploadSession session, final Publisher<ByteBuffer> chunk, final Key target
+    ) {
+        final ResumableSha256 sha = session.sha();
+        final AtomicLong end = new AtomicLong(session.end());
+        return this.storage.save(
+            target,
+            new Content.From(
+                HashingScheduler.hashed(chunk, sha::update)
+                    .doOnNext(buf -> end.addAndGet(buf.remaining()))
+            )
+        ).thenCompose(
+            nothing -> {
+                final UploadSession updated = new UploadSession(end.get(), sha);
+                return this.save(updated)
+                    .thenRun(() -> this.sessions.appended(this.root(), updated.end()))
+                    .thenApply(ignored -> Math.max(updated.end() - 1, 0));
+            }
+        );
+    }
+
+    /**
+     * Saves chunk of data, checks it's size and moves it to chunk location.
+     *
+     * @param session Current upload session.
+     * @param start Offset of chunk first byte.
+     * @param expected Expected offset of chunk last byte, empty if not known.
+     * @param chunk Chunk of data.
+     * @param target Chunk location.
+     * @return Offset of chunk last byte.
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private CompletionStage<Long> save(
+        final UploadSession session, final long start, final Optional<Long> expected,
+        final Publisher<ByteBuffer> chunk, final Key target
+    ) {
+        final boolean follows = start == session.end();
+        final ResumableSha256 sha = session.sha();
+        final AtomicLong size = new AtomicLong();
+        final Flowable<ByteBuffer> data;
+        if (follows) {
+            data = HashingScheduler.hashed(chunk, sha::update);
+        } else {
+            data = Flowable.fromPublisher(chunk);
+        }
+        final Key part = new Key.From(this.root(), "parts", UUID.randomUUID().toString());
+        return this.storage.save(
+            part,
+            new Content.From(
+                data.doOnNext(buf -> size.addAndGet(buf.remaining()))
+            )
+        ).thenCompose(
+            nothing -> {
+                final long end = start + size.get();
+                final CompletionStage<Void> moved;
+                if (expected.map(last -> last != end - 1).orElse(false)) {
+                    moved = this.storage.delete(part).thenCompose(
+                        deleted -> new FailedCompletionStage<>(
+                            new InvalidUploadException(
+                                String.format(
+                                    "Chunk %d-%d does not match received data %d-%d",
+                                    start, expected.get(), start, end - 1
+                                )
+                            )
+                        )
+                    );
+                } else if (follows) {
+                    final UploadSession updated = new UploadSession(end, sha);
+                    moved = this.storage.move(part, target)
+                        .thenCompose(ignored -> this.save(updated))
+                        .thenRun(() -> this.sessions.appended(this.root(), updated.end()));
+                } else {
+                    moved = this.storage.move(part, target);
+                }
+                return moved.thenApply(ignored -> Math.max(end - 1, 0));
+            }
+        );
+    }
+
+    /**
+     * Root key for uploaded chunks.
+     *
+     * @return Key.
+     */
+    private Key chunksRoot() {
+        return new Key.From(this.root(), "chunks");
+    }
+
+    /**
+     * Build upload chunk key for given start offset.
+     * Offset is padded with zeros, so lexicographical order of chunk keys
+     * matches the order of chunks in uploaded blob.
+     *
+     * @param start Offset of chunk first byte in uploaded blob.
      * @return Chunk key.
      */
-    private Key chunk(final Digest digest) {
-        return new Key.From(this.root(), String.format("%s_%s", digest.alg(), digest.hex()));
+    private Key chunk(final long start) {
+        return new Key.From(this.chunksRoot(), String.format("%019d", start));
     }
 
     /**
-     * List all chunk keys.
+     * List all chunk keys ordered by chunk offset.
      *
      * @return Chunk keys.
      */
-    private CompletableFuture<Collection<Key>> chunks() {
-        return this.storage.list(this.root()).thenApply(
+    private CompletableFuture<List<Key>> chunks() {
+        return this.storage.list(this.chunksRoot()).thenApply(
             keys -> keys.stream()
-                .filter(key -> !key.string().equals(this.started().string()))
+                .sorted(Comparator.comparing(Key::string))
                 .collect(Collectors.toList())
         );
     }
 
     /**
-     * Deletes upload blob data.
+     * Check that chunks follow each other without gaps and overlaps starting from zero offset.
      *
+     * @param chunks Chunk keys ordered by chunk offset.
+     * @return Total size of chunks, fails with {@link InvalidUploadException} if check fails.
+     */
+    private CompletionStage<Long> contiguous(final List<Key> chunks) {
+        final List<CompletableFuture<Long>> sizes = chunks.stream()
+            .map(this.storage::size)
+            .collect(Collectors.toList());
+        return CompletableFuture.allOf(sizes.toArray(new CompletableFuture<?>[0])).thenApply(
+            nothing -> {
+                long expected = 0;
+                for (int idx = 0; idx < chunks.size(); idx += 1) {
+                    final long start = AstoUpload.start(chunks.get(idx));
+                    if (start != expected) {
+                        throw new InvalidUploadException(
+                            String.format(
+                                "Chunk starts at %d, but %d was expected", start, expected
+                            )
+                        );
+                    }
+                    expected += sizes.get(idx).join();
+                }
+                return expected;
+            }
+        );
+    }
+
+    /**
+     * Read uploaded chunks as single content.
+     *
+     * @param chunks Chunk keys ordered by chunk offset.
+     * @return Uploaded content.
+     */
+    private Content content(final List<Key> chunks) {
+        return new Content.From(
+            Flowable.fromIterable(chunks).concatMap(
+                key -> SingleInterop.fromFuture(this.storage.value(key))
+                    .flatMapPublisher(content -> content)
+            )
+        );
+    }
+
+    /**
+     * Create blob source from chunks which content was already verified.
+     * Single chunk is moved to blob location without reading it.
+     *
+     * @param chunks Chunk keys ordered by chunk offset.
+     * @param digest Blob digest.
+     * @return Blob source.
+     */
+    private BlobSource verified(final List<Key> chunks, final Digest digest) {
+        return new BlobSource() {
+            @Override
+            public Digest digest() {
+                return digest;
+            }
+
+            @Override
+            public CompletionStage<Void> saveTo(final Storage asto, final Key key) {
+                final CompletionStage<Void> result;
+                if (chunks.size() == 1) {
+                    result = asto.move(chunks.get(0), key);
+                } else {
+                    result = new TrustedBlobSource(AstoUpload.this.content(chunks), digest)
+                        .saveTo(asto, key);
+                }
+                return result;
+            }
+        };
+    }
+
+    /**
+     * Chunks left in upload after verified blob is put,
+     * single chunk is moved to blob location by {@link #verified(List, Digest)}.
+     *
+     * @param chunks Chunk keys.
+     * @return Chunk keys left in upload.
+     */
+    private static List<Key> unmoved(final List<Key> chunks) {
+        final List<Key> left;
+        if (chunks.size() == 1) {
+            left = Collections.emptyList();
+        } else {
+            left = chunks;
+        }
+        return left;
+    }
+
+    /**
+     * Read chunk offset from it's key.
+     *
+     * @param chunk Chunk key.
+     * @return Offset of chunk first byte.
+     */
+    private static long start(final Key chunk) {
+        return Long.parseLong(chunk.string().substring(chunk.string().lastIndexOf('/') + 1));
+    }
+
+    /**
+     * Deletes upload data.
+     *
+     * @param chunks Chunk keys.
      * @return Completion or error signal.
      */
-    private CompletionStage<Void> delete() {
-        return this.storage.list(this.root())
-            .thenCompose(
-                list -> CompletableFuture.allOf(
-                    list.stream().map(file -> this.storage.delete(file).toCompletableFuture())
-                        .toArray(CompletableFuture[]::new)
-                )
-            );
+    private CompletionStage<Void> delete(final List<Key> chunks) {
+        this.sessions.finished(this.root());
+        return CompletableFuture.allOf(
+            Stream.concat(chunks.stream(), Stream.of(this.started(), this.sessionKey()))
+                .map(key -> this.storage.delete(key).toCompletableFuture())
+                .toArray(CompletableFuture[]::new)
+        );
     }
 }
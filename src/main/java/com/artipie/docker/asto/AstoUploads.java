@@ -54,6 +54,11 @@ public final class AstoUploads implements Uploads {
      */
     private final RepoName name;
 
+    /**
+     * Active uploads registry.
+     */
+    private final UploadSessions sessions;
+
     /**
      * Ctor.
      *
@@ -62,15 +67,34 @@ public final class AstoUploads implements Uploads {
      * @param name Repository name
      */
     public AstoUploads(final Storage asto, final UploadsLayout layout, final RepoName name) {
+        this(asto, layout, name, new UploadSessions());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param asto Asto storage
+     * @param layout Uploads layout.
+     * @param name Repository name
+     * @param sessions Active uploads registry.
+     * @checkstyle ParameterNumberCheck (2 lines)
+     */
+    public AstoUploads(
+        final Storage asto,
+        final UploadsLayout layout,
+        final RepoName name,
+        final UploadSessions sessions
+    ) {
         this.asto = asto;
         this.layout = layout;
         this.name = name;
+        this.sessions = sessions;
     }
 
     @Override
     public CompletionStage<Upload> start() {
         final String uuid = UUID.randomUUID().toString();
-        final AstoUpload upload = new AstoUpload(this.asto, this.layout, this.name, uuid);
+        final AstoUpload upload = this.upload(uuid);
         return upload.start().thenApply(ignored -> upload);
     }
 
@@ -79,6 +103,8 @@ public final class AstoUploads implements Uploads {
         final CompletableFuture<Optional<Upload>> result;
         if (uuid.isEmpty()) {
             result = CompletableFuture.completedFuture(Optional.empty());
+        } else if (this.sessions.active(this.layout.upload(this.name, uuid))) {
+            result = CompletableFuture.completedFuture(Optional.of(this.upload(uuid)));
         } else {
             result = this.asto.list(this.layout.upload(this.name, uuid)).thenApply(
                 list -> {
@@ -86,9 +112,7 @@ public final class AstoUploads implements Uploads {
                     if (list.isEmpty()) {
                         upload = Optional.empty();
                     } else {
-                        upload = Optional.of(
-                            new AstoUpload(this.asto, this.layout, this.name, uuid)
-                        );
+                        upload = Optional.of(this.upload(uuid));
                     }
                     return upload;
                 }
@@ -96,4 +120,14 @@ public final class AstoUploads implements Uploads {
         }
         return result;
     }
+
+    /**
+     * Create upload by UUID.
+     *
+     * @param uuid Upload UUID.
+     * @return Upload.
+     */
+    private AstoUpload upload(final String uuid) {
+        return new AstoUpload(this.asto, this.layout, this.name, uuid, this.sessions);
+    }
 }
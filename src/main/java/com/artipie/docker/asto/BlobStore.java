@@ -26,6 +26,9 @@ package com.artipie.docker.asto;
 
 import com.artipie.docker.Blob;
 import com.artipie.docker.Digest;
+import hu.akarnokd.rxjava2.interop.SingleInterop;
+import io.reactivex.Flowable;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 
@@ -49,5 +52,30 @@ public interface BlobStore {
      * @return Added blob.
      */
     CompletionStage<Blob> put(BlobSource source);
+
+    /**
+     * Find any blob missing in the store.
+     * Stops checking as soon as missing blob is found.
+     * By default checks blobs one by one with at most 16 concurrent lookups,
+     * stores supporting batch lookups may check all digests at once.
+     *
+     * @param digests Blob digests.
+     * @return Digest of missing blob, empty if all blobs exist.
+     */
+    default CompletionStage<Optional<Digest>> missing(final Collection<Digest> digests) {
+        return Flowable.fromIterable(digests)
+            .flatMapMaybe(
+                digest -> SingleInterop.fromFuture(this.blob(digest))
+                    .filter(found -> !found.isPresent())
+                    .map(absent -> digest),
+                false,
+                // @checkstyle MagicNumberCheck (1 line)
+                16
+            )
+            .firstElement()
+            .map(Optional::of)
+            .toSingle(Optional.empty())
+            .to(SingleInterop.get());
+    }
 }
 
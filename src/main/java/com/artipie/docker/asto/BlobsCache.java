@@ -0,0 +1,181 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.docker.asto;
+
+import com.artipie.asto.Key;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * In-memory cache of blobs metadata: presence and size by blob key.
+ * Blobs are content addressable and never change, so positive entries
+ * are valid until evicted. Negative entries expire after configured time
+ * and are replaced when blob is saved.
+ * Cache is bounded: least recently used entries are evicted when capacity is exceeded.
+ *
+ * @since 0.13
+ */
+public final class BlobsCache {
+
+    /**
+     * Negative entries expiration time.
+     */
+    private final Duration negative;
+
+    /**
+     * Cached entries by blob key.
+     */
+    private final Map<String, Entry> entries;
+
+    /**
+     * Ctor for disabled cache which does not remember anything.
+     */
+    public BlobsCache() {
+        this(0, Duration.ZERO);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param capacity Maximum number of entries.
+     * @param negative Negative entries expiration time.
+     */
+    @SuppressWarnings("serial")
+    public BlobsCache(final int capacity, final Duration negative) {
+        this.negative = negative;
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Entry> eldest) {
+                return this.size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Check blob existence.
+     *
+     * @param key Blob key.
+     * @return True if blob exists, false if it is known to be absent,
+     *  empty if it should be checked in storage.
+     */
+    public synchronized Optional<Boolean> exists(final Key key) {
+        final Optional<Entry> entry = Optional.ofNullable(this.entries.get(key.string()));
+        final Optional<Entry> valid = entry.filter(
+            found -> found.exists || Instant.now().isBefore(found.expires)
+        );
+        if (entry.isPresent() && !valid.isPresent()) {
+            this.entries.remove(key.string());
+        }
+        return valid.map(found -> found.exists);
+    }
+
+    /**
+     * Get blob size.
+     *
+     * @param key Blob key.
+     * @return Size, empty if not known.
+     */
+    public synchronized Optional<Long> size(final Key key) {
+        return Optional.ofNullable(this.entries.get(key.string()))
+            .filter(entry -> entry.exists && entry.size >= 0)
+            .map(entry -> entry.size);
+    }
+
+    /**
+     * Remember blob exists.
+     *
+     * @param key Blob key.
+     */
+    public synchronized void present(final Key key) {
+        final Entry entry = this.entries.get(key.string());
+        if (entry == null || !entry.exists) {
+            this.entries.put(key.string(), new Entry(true, -1L, Instant.MAX));
+        }
+    }
+
+    /**
+     * Remember blob size.
+     *
+     * @param key Blob key.
+     * @param size Blob size.
+     */
+    public synchronized void sized(final Key key, final long size) {
+        this.entries.put(key.string(), new Entry(true, size, Instant.MAX));
+    }
+
+    /**
+     * Remember blob is absent.
+     * Positive entry is kept: absence may be observed by storage check started
+     * before blob was saved, while blobs are never removed.
+     *
+     * @param key Blob key.
+     */
+    public synchronized void absent(final Key key) {
+        final Entry entry = this.entries.get(key.string());
+        if (entry == null || !entry.exists) {
+            this.entries.put(
+                key.string(), new Entry(false, -1L, Instant.now().plus(this.negative))
+            );
+        }
+    }
+
+    /**
+     * Cache entry.
+     *
+     * @since 0.13
+     */
+    private static final class Entry {
+
+        /**
+         * Blob existence.
+         */
+        private final boolean exists;
+
+        /**
+         * Blob size, negative if unknown.
+         */
+        private final long size;
+
+        /**
+         * Entry expiration time.
+         */
+        private final Instant expires;
+
+        /**
+         * Ctor.
+         *
+         * @param exists Blob existence.
+         * @param size Blob size, negative if unknown.
+         * @param expires Entry expiration time.
+         */
+        private Entry(final boolean exists, final long size, final Instant expires) {
+            this.exists = exists;
+            this.size = size;
+            this.expires = expires;
+        }
+    }
+}
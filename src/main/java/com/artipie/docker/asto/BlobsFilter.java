@@ -0,0 +1,271 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.docker.asto;
+
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.docker.Digest;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Bloom filter of digests of blobs in storage.
+ * If filter reports digest was never seen, blob is definitely absent and
+ * storage lookup could be skipped. Filter answers "might contain" for any digest
+ * until it is built from storage with {@link #rebuild(Storage, BlobsLayout)}.
+ * Filter is filled from blobs store of layout and updated on blob put,
+ * so it should be enabled only when all blobs are written through this process.
+ *
+ * @since 0.13
+ */
+public final class BlobsFilter {
+
+    /**
+     * FNV-1a 64 offset basis.
+     */
+    private static final long BASIS = 0xcbf29ce484222325L;
+
+    /**
+     * FNV-1a 64 prime.
+     */
+    private static final long PRIME = 0x100000001b3L;
+
+    /**
+     * Number of bits in filter.
+     */
+    private final int size;
+
+    /**
+     * Number of hash functions.
+     */
+    private final int hashes;
+
+    /**
+     * Filter bits, null until filter is built.
+     */
+    private final AtomicReference<AtomicLongArray> bits;
+
+    /**
+     * Filter bits being rebuilt, null if not rebuilding.
+     */
+    private final AtomicReference<AtomicLongArray> next;
+
+    /**
+     * Rebuild in progress, null if not rebuilding.
+     */
+    private final AtomicReference<CompletableFuture<Void>> rebuilding;
+
+    /**
+     * Ctor for disabled filter which might contain any digest.
+     */
+    public BlobsFilter() {
+        this(0, 0);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param expected Expected number of blobs.
+     * @param fpp Desired false positive probability.
+     */
+    public BlobsFilter(final long expected, final double fpp) {
+        if (expected > 0) {
+            final double log = Math.log(2);
+            this.size = (int) Math.min(
+                Integer.MAX_VALUE - Long.SIZE,
+                Math.max(Long.SIZE, Math.ceil(-expected * Math.log(fpp) / (log * log)))
+            );
+            this.hashes = Math.max(1, (int) Math.round((double) this.size / expected * log));
+        } else {
+            this.size = 0;
+            this.hashes = 0;
+        }
+        this.bits = new AtomicReference<>();
+        this.next = new AtomicReference<>();
+        this.rebuilding = new AtomicReference<>();
+    }
+
+    /**
+     * Check digest might be present in storage.
+     *
+     * @param digest Blob digest.
+     * @return False if blob is definitely absent.
+     */
+    public boolean mightContain(final Digest digest) {
+        final AtomicLongArray current = this.bits.get();
+        boolean result = true;
+        if (current != null) {
+            final long[] hash = BlobsFilter.hash(digest);
+            for (int idx = 0; idx < this.hashes && result; idx += 1) {
+                final int bit = this.bit(hash, idx);
+                result = (current.get(bit / Long.SIZE) & 1L << bit % Long.SIZE) != 0;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Add digest of blob saved to storage.
+     *
+     * @param digest Blob digest.
+     */
+    public void add(final Digest digest) {
+        final int[] positions = this.positions(digest);
+        BlobsFilter.set(this.next.get(), positions);
+        BlobsFilter.set(this.bits.get(), positions);
+    }
+
+    /**
+     * Build filter from scratch by listing blobs in storage.
+     * Filter keeps answering with previous state until rebuild is completed,
+     * blobs added during rebuild are recorded in both states.
+     * Only one rebuild runs at a time, rebuild requested while another one is
+     * in progress joins it.
+     * Supposed to be run on startup and periodically in background.
+     *
+     * @param storage Storage.
+     * @param layout Blobs layout.
+     * @return Completion of rebuild.
+     */
+    public CompletionStage<Void> rebuild(final Storage storage, final BlobsLayout layout) {
+        final CompletableFuture<Void> started = new CompletableFuture<>();
+        final CompletionStage<Void> result;
+        if (this.rebuilding.compareAndSet(null, started)) {
+            final AtomicLongArray fresh = new AtomicLongArray(this.size / Long.SIZE + 1);
+            this.next.set(fresh);
+            storage.list(layout.blobs()).thenAccept(
+                keys -> {
+                    if (this.size > 0) {
+                        this.fill(fresh, keys);
+                        this.bits.set(fresh);
+                    }
+                }
+            ).whenComplete(
+                (nothing, err) -> {
+                    this.next.set(null);
+                    this.rebuilding.set(null);
+                    if (err == null) {
+                        started.complete(null);
+                    } else {
+                        started.completeExceptionally(err);
+                    }
+                }
+            );
+            result = started;
+        } else {
+            result = Optional.<CompletionStage<Void>>ofNullable(this.rebuilding.get())
+                .orElseGet(() -> this.rebuild(storage, layout));
+        }
+        return result;
+    }
+
+    /**
+     * Fill filter bits with digests from blob keys.
+     *
+     * @param target Filter bits.
+     * @param keys Keys in blobs store.
+     */
+    private void fill(final AtomicLongArray target, final Collection<Key> keys) {
+        for (final Key key : keys) {
+            final String[] parts = key.string().split("/");
+            final int len = parts.length;
+            if (len >= 4 && "data".equals(parts[len - 1])) {
+                BlobsFilter.set(
+                    target,
+                    this.positions(
+                        new Digest.FromString(
+                            String.format("%s:%s", parts[len - 4], parts[len - 2])
+                        )
+                    )
+                );
+            }
+        }
+    }
+
+    /**
+     * Calculate bit positions of digest.
+     *
+     * @param digest Digest.
+     * @return Bit positions.
+     */
+    private int[] positions(final Digest digest) {
+        final long[] hash = BlobsFilter.hash(digest);
+        final int[] positions = new int[this.hashes];
+        for (int idx = 0; idx < this.hashes; idx += 1) {
+            positions[idx] = this.bit(hash, idx);
+        }
+        return positions;
+    }
+
+    /**
+     * Calculate bit position for hash function using double hashing.
+     *
+     * @param hash Two base hashes.
+     * @param idx Hash function index.
+     * @return Bit position.
+     */
+    private int bit(final long[] hash, final int idx) {
+        return (int) Long.remainderUnsigned(hash[0] + idx * hash[1], this.size);
+    }
+
+    /**
+     * Set bits in filter.
+     *
+     * @param target Filter bits, nothing is done if null.
+     * @param positions Bit positions.
+     */
+    private static void set(final AtomicLongArray target, final int... positions) {
+        if (target != null) {
+            for (final int bit : positions) {
+                final int word = bit / Long.SIZE;
+                final long mask = 1L << bit % Long.SIZE;
+                long prev = target.get(word);
+                while ((prev & mask) == 0 && !target.compareAndSet(word, prev, prev | mask)) {
+                    prev = target.get(word);
+                }
+            }
+        }
+    }
+
+    /**
+     * Calculate two base FNV-1a hashes of digest string.
+     *
+     * @param digest Digest.
+     * @return Two hashes.
+     */
+    private static long[] hash(final Digest digest) {
+        long first = BlobsFilter.BASIS;
+        long second = BlobsFilter.BASIS ^ BlobsFilter.PRIME;
+        for (final byte chr : digest.string().getBytes(StandardCharsets.US_ASCII)) {
+            first = (first ^ chr) * BlobsFilter.PRIME;
+            second = (second * BlobsFilter.PRIME) ^ chr;
+        }
+        return new long[]{first, second | 1L};
+    }
+}
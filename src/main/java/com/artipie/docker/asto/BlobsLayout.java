@@ -42,4 +42,11 @@ public interface BlobsLayout {
      * @return Key for storing blob.
      */
     Key blob(RepoName repo, Digest digest);
+
+    /**
+     * Get root key of blobs store.
+     *
+     * @return Key of blobs store root.
+     */
+    Key blobs();
 }
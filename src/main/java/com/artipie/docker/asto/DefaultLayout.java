@@ -40,21 +40,43 @@ public final class DefaultLayout implements Layout {
         return new Key.From("repositories");
     }
 
+    @Override
+    public Key catalog() {
+        return new Key.From("catalog");
+    }
+
     @Override
     public Key blob(final RepoName repo, final Digest digest) {
         return new BlobKey(digest);
     }
 
+    @Override
+    public Key blobs() {
+        return new Key.From("blobs");
+    }
+
     @Override
     public Key manifest(final RepoName repo, final ManifestRef ref) {
         return new Key.From(this.manifests(repo), ref.link().string());
     }
 
+    @Override
+    public Key meta(final RepoName repo, final Digest digest) {
+        return new Key.From(
+            this.manifests(repo), "revisions", digest.alg(), digest.hex(), "meta"
+        );
+    }
+
     @Override
     public Key tags(final RepoName repo) {
         return new Key.From(this.manifests(repo), "tags");
     }
 
+    @Override
+    public Key tagsIndex(final RepoName repo) {
+        return new Key.From(this.manifests(repo), "tagindex");
+    }
+
     @Override
     public Key upload(final RepoName repo, final String uuid) {
         return new UploadKey(repo, uuid);
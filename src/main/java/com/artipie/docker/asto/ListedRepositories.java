@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.docker.asto;
+
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import java.util.Collection;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+/**
+ * Repository names found by listing all keys under repositories root.
+ * Repository name may contain slashes, so name is the part of key path
+ * before {@code _manifests} directory. Repositories without manifests are skipped.
+ * Listing is expensive and used only to build missing catalog index.
+ *
+ * @since 0.13
+ */
+final class ListedRepositories implements Function<Storage, CompletionStage<Collection<String>>> {
+
+    /**
+     * Manifests directory.
+     */
+    private static final String MANIFESTS = "/_manifests/";
+
+    /**
+     * Repositories root key.
+     */
+    private final Key root;
+
+    /**
+     * Ctor.
+     *
+     * @param root Repositories root key.
+     */
+    ListedRepositories(final Key root) {
+        this.root = root;
+    }
+
+    @Override
+    public CompletionStage<Collection<String>> apply(final Storage storage) {
+        return storage.list(this.root).thenApply(
+            keys -> {
+                final Set<String> names = new TreeSet<>();
+                final int prefix = this.root.string().length() + 1;
+                for (final Key key : keys) {
+                    final String path = key.string().substring(prefix);
+                    final int idx = path.indexOf(ListedRepositories.MANIFESTS);
+                    if (idx > 0) {
+                        names.add(path.substring(0, idx));
+                    }
+                }
+                return names;
+            }
+        );
+    }
+}
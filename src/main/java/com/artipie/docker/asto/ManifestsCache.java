@@ -0,0 +1,301 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.docker.asto;
+
+import com.artipie.asto.Key;
+import com.artipie.docker.Digest;
+import com.artipie.docker.manifest.ManifestMeta;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * In-memory cache of manifests: manifest links (tag or digest reference to digest),
+ * manifest metadata and manifest bytes by digest, parsed tags and catalog indexes.
+ * Manifest bytes and metadata are content addressable and never change,
+ * metadata is cached separately so HEAD requests do not parse manifest bytes.
+ * Links are updated when manifest is put through this process; when
+ * manifests are also put by other nodes, links should expire after a short time.
+ * Parsed index is valid while stored index has the same size: names are only
+ * added to index, so index changed by another node has another size.
+ * All levels are bounded: links, metadata and indexes by count, manifests by total
+ * size in bytes, least recently used entries are evicted first.
+ *
+ * @since 0.13
+ */
+public final class ManifestsCache {
+
+    /**
+     * Links expiration time.
+     */
+    private final Duration ttl;
+
+    /**
+     * Maximum total size of cached manifests in bytes.
+     */
+    private final long capacity;
+
+    /**
+     * Cached links by link key.
+     */
+    private final Map<String, Link> links;
+
+    /**
+     * Cached manifest metadata by digest.
+     */
+    private final Map<String, ManifestMeta> metas;
+
+    /**
+     * Cached manifest bytes by digest.
+     */
+    private final Map<String, byte[]> manifests;
+
+    /**
+     * Cached parsed names indexes by index key.
+     */
+    private final Map<String, Names> indexes;
+
+    /**
+     * Total size of cached manifests in bytes.
+     */
+    private long total;
+
+    /**
+     * Ctor for disabled cache which does not remember anything.
+     */
+    public ManifestsCache() {
+        this(0, 0L, Duration.ZERO);
+    }
+
+    /**
+     * Ctor for cache with links which never expire.
+     * Suitable when all manifests are put through this process.
+     *
+     * @param links Maximum number of cached links.
+     * @param bytes Maximum total size of cached manifests in bytes.
+     */
+    public ManifestsCache(final int links, final long bytes) {
+        this(links, bytes, Duration.ofMillis(Long.MAX_VALUE));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param links Maximum number of cached links, manifests metadata and indexes.
+     * @param bytes Maximum total size of cached manifests in bytes.
+     * @param ttl Links expiration time.
+     */
+    @SuppressWarnings("serial")
+    public ManifestsCache(final int links, final long bytes, final Duration ttl) {
+        this.ttl = ttl;
+        this.capacity = bytes;
+        this.links = new LinkedHashMap<String, Link>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Link> eldest) {
+                return this.size() > links;
+            }
+        };
+        this.metas = new LinkedHashMap<String, ManifestMeta>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, ManifestMeta> eldest) {
+                return this.size() > links;
+            }
+        };
+        this.manifests = new LinkedHashMap<>(16, 0.75f, true);
+        this.indexes = new LinkedHashMap<String, Names>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Names> eldest) {
+                return this.size() > links;
+            }
+        };
+    }
+
+    /**
+     * Get manifest digest by link.
+     *
+     * @param key Link key.
+     * @return Digest, empty if not cached or expired.
+     */
+    public synchronized Optional<Digest> link(final Key key) {
+        final Optional<Link> link = Optional.ofNullable(this.links.get(key.string()));
+        final Optional<Link> alive = link.filter(
+            found -> Instant.now().isBefore(found.expires)
+        );
+        if (link.isPresent() && !alive.isPresent()) {
+            this.links.remove(key.string());
+        }
+        return alive.map(found -> found.digest);
+    }
+
+    /**
+     * Remember manifest link.
+     *
+     * @param key Link key.
+     * @param digest Manifest digest.
+     */
+    public synchronized void link(final Key key, final Digest digest) {
+        final Instant now = Instant.now();
+        final Instant expires;
+        if (Duration.between(now, Instant.MAX).compareTo(this.ttl) > 0) {
+            expires = now.plus(this.ttl);
+        } else {
+            expires = Instant.MAX;
+        }
+        this.links.put(key.string(), new Link(digest, expires));
+    }
+
+    /**
+     * Get manifest metadata by digest.
+     *
+     * @param digest Manifest digest.
+     * @return Manifest metadata, empty if not cached.
+     */
+    public synchronized Optional<ManifestMeta> meta(final Digest digest) {
+        return Optional.ofNullable(this.metas.get(digest.string()));
+    }
+
+    /**
+     * Remember manifest metadata.
+     *
+     * @param meta Manifest metadata.
+     */
+    public synchronized void meta(final ManifestMeta meta) {
+        this.metas.put(meta.digest().string(), meta);
+    }
+
+    /**
+     * Get manifest bytes by digest.
+     *
+     * @param digest Manifest digest.
+     * @return Manifest bytes, empty if not cached.
+     */
+    public synchronized Optional<byte[]> manifest(final Digest digest) {
+        return Optional.ofNullable(this.manifests.get(digest.string()));
+    }
+
+    /**
+     * Remember manifest bytes.
+     * Manifests larger than cache capacity are not remembered.
+     *
+     * @param digest Manifest digest.
+     * @param bytes Manifest bytes, should not be modified after.
+     */
+    public synchronized void manifest(final Digest digest, final byte[] bytes) {
+        if (bytes.length <= this.capacity && !this.manifests.containsKey(digest.string())) {
+            this.manifests.put(digest.string(), bytes);
+            this.total += bytes.length;
+            final Iterator<byte[]> eldest = this.manifests.values().iterator();
+            while (this.total > this.capacity) {
+                this.total -= eldest.next().length;
+                eldest.remove();
+            }
+        }
+    }
+
+    /**
+     * Get parsed names index.
+     *
+     * @param key Index key.
+     * @param size Size of index stored in storage.
+     * @return Sorted names, empty if not cached or cached for index of another size.
+     */
+    public synchronized Optional<List<String>> names(final Key key, final long size) {
+        return Optional.ofNullable(this.indexes.get(key.string()))
+            .filter(names -> names.size == size)
+            .map(names -> names.list);
+    }
+
+    /**
+     * Remember parsed names index.
+     *
+     * @param key Index key.
+     * @param size Size of index stored in storage.
+     * @param names Sorted names, should not be modified after.
+     */
+    public synchronized void names(final Key key, final long size, final List<String> names) {
+        this.indexes.put(key.string(), new Names(size, names));
+    }
+
+    /**
+     * Cached link.
+     *
+     * @since 0.13
+     */
+    private static final class Link {
+
+        /**
+         * Manifest digest.
+         */
+        private final Digest digest;
+
+        /**
+         * Link expiration time.
+         */
+        private final Instant expires;
+
+        /**
+         * Ctor.
+         *
+         * @param digest Manifest digest.
+         * @param expires Link expiration time.
+         */
+        private Link(final Digest digest, final Instant expires) {
+            this.digest = digest;
+            this.expires = expires;
+        }
+    }
+
+    /**
+     * Cached parsed names index.
+     *
+     * @since 0.13
+     */
+    private static final class Names {
+
+        /**
+         * Size of index stored in storage.
+         */
+        private final long size;
+
+        /**
+         * Sorted names.
+         */
+        private final List<String> list;
+
+        /**
+         * Ctor.
+         *
+         * @param size Size of index stored in storage.
+         * @param list Sorted names.
+         */
+        private Names(final long size, final List<String> list) {
+            this.size = size;
+            this.list = list;
+        }
+    }
+}
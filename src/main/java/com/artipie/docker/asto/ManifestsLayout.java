@@ -24,6 +24,7 @@
 package com.artipie.docker.asto;
 
 import com.artipie.asto.Key;
+import com.artipie.docker.Digest;
 import com.artipie.docker.RepoName;
 import com.artipie.docker.ref.ManifestRef;
 
@@ -34,6 +35,20 @@ import com.artipie.docker.ref.ManifestRef;
  */
 public interface ManifestsLayout {
 
+    /**
+     * Create repositories key.
+     *
+     * @return Key for storing repositories.
+     */
+    Key repositories();
+
+    /**
+     * Create catalog index key.
+     *
+     * @return Key for storing sorted repository names.
+     */
+    Key catalog();
+
     /**
      * Create manifest link key by it's reference.
      *
@@ -43,6 +58,15 @@ public interface ManifestsLayout {
      */
     Key manifest(RepoName repo, ManifestRef ref);
 
+    /**
+     * Create manifest metadata key by manifest digest.
+     *
+     * @param repo Repository name.
+     * @param digest Manifest digest.
+     * @return Key for storing manifest metadata.
+     */
+    Key meta(RepoName repo, Digest digest);
+
     /**
      * Create tags key.
      *
@@ -50,4 +74,12 @@ public interface ManifestsLayout {
      * @return Key for storing tags.
      */
     Key tags(RepoName repo);
+
+    /**
+     * Create sorted tags index key.
+     *
+     * @param repo Repository name.
+     * @return Key for storing tags index.
+     */
+    Key tagsIndex(RepoName repo);
 }
@@ -0,0 +1,351 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.docker.asto;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.FailedCompletionStage;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.ext.PublisherAs;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Sorted index of names stored as single storage item,
+ * one name per line in lexicographical order.
+ * Used for repository tags and for registry catalog.
+ * Index is updated under storage lock when name is added,
+ * page of names is found by binary search instead of listing storage keys.
+ * Lock held by another writer is retried with growing delay, index is never
+ * modified or removed without holding the lock.
+ * Index missing in storage, e.g. created before index was introduced,
+ * is built from names source on first access.
+ * Parsed index is kept in {@link ManifestsCache} while stored index size is the same,
+ * so reading next page does not read and split the whole index again.
+ *
+ * @since 0.13
+ */
+final class NamesIndex {
+
+    /**
+     * Names separator.
+     */
+    private static final String SEPARATOR = "\n";
+
+    /**
+     * Maximum number of attempts to acquire index lock on update.
+     */
+    private static final int ATTEMPTS = 6;
+
+    /**
+     * Delay before second attempt to acquire index lock in milliseconds,
+     * doubled on each next attempt.
+     */
+    private static final long DELAY = 20;
+
+    /**
+     * Storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Index key.
+     */
+    private final Key key;
+
+    /**
+     * Source of names used to build missing index.
+     */
+    private final Function<Storage, CompletionStage<Collection<String>>> source;
+
+    /**
+     * Cache of parsed index.
+     */
+    private final ManifestsCache cache;
+
+    /**
+     * Ctor.
+     *
+     * @param storage Storage.
+     * @param key Index key.
+     * @param source Source of names used to build missing index.
+     */
+    NamesIndex(
+        final Storage storage,
+        final Key key,
+        final Function<Storage, CompletionStage<Collection<String>>> source
+    ) {
+        this(storage, key, source, new ManifestsCache());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param storage Storage.
+     * @param key Index key.
+     * @param source Source of names used to build missing index.
+     * @param cache Cache of parsed index.
+     * @checkstyle ParameterNumberCheck (6 lines)
+     */
+    NamesIndex(
+        final Storage storage,
+        final Key key,
+        final Function<Storage, CompletionStage<Collection<String>>> source,
+        final ManifestsCache cache
+    ) {
+        this.storage = storage;
+        this.key = key;
+        this.source = source;
+        this.cache = cache;
+    }
+
+    /**
+     * Add name to index.
+     * Index is updated only if it does not contain name yet.
+     *
+     * @param name Name.
+     * @return Completion of index update.
+     */
+    CompletionStage<Void> add(final String name) {
+        return this.read(this.storage).thenCompose(
+            names -> {
+                final CompletionStage<Void> res;
+                if (names.isPresent() && Collections.binarySearch(names.get(), name) >= 0) {
+                    res = CompletableFuture.allOf();
+                } else {
+                    res = this.update(
+                        list -> {
+                            final int idx = Collections.binarySearch(list, name);
+                            if (idx < 0) {
+                                list.add(-idx - 1, name);
+                            }
+                            return list;
+                        }
+                    );
+                }
+                return res;
+            }
+        );
+    }
+
+    /**
+     * Read page of names.
+     *
+     * @param from From which name to start, exclusive.
+     * @param limit Maximum number of names returned.
+     * @return Ordered names page.
+     */
+    CompletionStage<List<String>> page(final Optional<String> from, final int limit) {
+        return this.read(this.storage).thenCompose(
+            names -> names.map(CompletableFuture::completedFuture).orElseGet(
+                () -> this.storage.exclusively(this.key, this::rebuild)
+                    .handle(
+                        (built, err) -> {
+                            final CompletionStage<List<String>> res;
+                            if (err == null) {
+                                res = CompletableFuture.completedFuture(built);
+                            } else {
+                                res = this.source.apply(this.storage).thenApply(
+                                    listed -> new ArrayList<>(new TreeSet<>(listed))
+                                );
+                            }
+                            return res;
+                        }
+                    ).thenCompose(Function.identity()).toCompletableFuture()
+            )
+        ).thenApply(
+            names -> {
+                final int start = from.map(
+                    last -> {
+                        final int idx = Collections.binarySearch(names, last);
+                        final int next;
+                        if (idx >= 0) {
+                            next = idx + 1;
+                        } else {
+                            next = -idx - 1;
+                        }
+                        return next;
+                    }
+                ).orElse(0);
+                return names.subList(
+                    start, (int) Math.min(names.size(), (long) start + Math.max(limit, 0))
+                );
+            }
+        );
+    }
+
+    /**
+     * Update index under storage lock.
+     * If update fails while lock is held, index is removed under the same lock,
+     * so it will be rebuilt from names source.
+     *
+     * @param modify Modification of sorted names list.
+     * @return Completion of index update, failed if lock was not acquired.
+     */
+    private CompletionStage<Void> update(final UnaryOperator<List<String>> modify) {
+        return this.update(modify, 1);
+    }
+
+    /**
+     * Update index under storage lock, retrying if lock is held by another writer.
+     *
+     * @param modify Modification of sorted names list.
+     * @param attempt Number of current attempt.
+     * @return Completion of index update.
+     */
+    private CompletionStage<Void> update(
+        final UnaryOperator<List<String>> modify, final int attempt
+    ) {
+        return this.storage.exclusively(
+            this.key,
+            locked -> this.read(locked).thenCompose(
+                names -> names.map(CompletableFuture::completedFuture)
+                    .orElseGet(() -> this.rebuild(locked).toCompletableFuture())
+            ).thenCompose(
+                names -> this.save(locked, modify.apply(new ArrayList<>(names)))
+            ).handle(
+                (nothing, err) -> {
+                    final CompletionStage<Void> res;
+                    if (err == null) {
+                        res = CompletableFuture.allOf();
+                    } else {
+                        res = locked.delete(this.key);
+                    }
+                    return res;
+                }
+            ).thenCompose(Function.identity())
+        ).handle(
+            (nothing, err) -> {
+                final CompletionStage<Void> res;
+                if (err == null) {
+                    res = CompletableFuture.allOf();
+                } else if (attempt < NamesIndex.ATTEMPTS) {
+                    res = CompletableFuture.supplyAsync(
+                        () -> attempt,
+                        CompletableFuture.delayedExecutor(
+                            NamesIndex.DELAY << (attempt - 1), TimeUnit.MILLISECONDS
+                        )
+                    ).thenCompose(prev -> this.update(modify, prev + 1));
+                } else {
+                    res = new FailedCompletionStage<>(err);
+                }
+                return res;
+            }
+        ).thenCompose(Function.identity());
+    }
+
+    /**
+     * Read index from storage.
+     *
+     * @param sto Storage.
+     * @return Sorted names, empty if index does not exist.
+     */
+    private CompletionStage<Optional<List<String>>> read(final Storage sto) {
+        return sto.exists(this.key).thenCompose(
+            exists -> {
+                final CompletionStage<Optional<List<String>>> res;
+                if (exists) {
+                    res = sto.size(this.key).thenCompose(
+                        size -> this.cache.names(this.key, size)
+                            .map(CompletableFuture::completedFuture)
+                            .orElseGet(
+                                () -> sto.value(this.key)
+                                    .thenCompose(content -> new PublisherAs(content).asciiString())
+                                    .thenApply(NamesIndex::parse)
+                                    .thenApply(
+                                        names -> {
+                                            this.cache.names(this.key, size, names);
+                                            return names;
+                                        }
+                                    )
+                            )
+                    ).thenApply(Optional::of);
+                } else {
+                    res = CompletableFuture.completedFuture(Optional.empty());
+                }
+                return res;
+            }
+        );
+    }
+
+    /**
+     * Build index from names source and save it.
+     *
+     * @param sto Storage.
+     * @return Sorted names.
+     */
+    private CompletionStage<List<String>> rebuild(final Storage sto) {
+        return this.source.apply(sto).<List<String>>thenApply(
+            names -> new ArrayList<>(new TreeSet<>(names))
+        ).thenCompose(
+            names -> this.save(sto, names).thenApply(nothing -> names)
+        );
+    }
+
+    /**
+     * Save index to storage.
+     *
+     * @param sto Storage.
+     * @param names Sorted names.
+     * @return Completion of saving.
+     */
+    private CompletionStage<Void> save(final Storage sto, final List<String> names) {
+        final byte[] bytes = String.join(NamesIndex.SEPARATOR, names)
+            .getBytes(StandardCharsets.US_ASCII);
+        return sto.save(this.key, new Content.From(bytes)).thenRun(
+            () -> this.cache.names(
+                this.key, bytes.length, Collections.unmodifiableList(new ArrayList<>(names))
+            )
+        );
+    }
+
+    /**
+     * Parse index content.
+     *
+     * @param content Index content.
+     * @return Sorted names.
+     */
+    private static List<String> parse(final String content) {
+        final List<String> names;
+        if (content.isEmpty()) {
+            names = Collections.emptyList();
+        } else {
+            names = Collections.unmodifiableList(
+                Arrays.asList(content.split(NamesIndex.SEPARATOR))
+            );
+        }
+        return names;
+    }
+}
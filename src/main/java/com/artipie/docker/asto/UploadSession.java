@@ -0,0 +1,119 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.docker.asto;
+
+import com.artipie.docker.misc.ResumableSha256;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Upload session metadata: offset after the last byte uploaded so far
+ * and SHA-256 state of uploaded data.
+ * Session is advanced only by chunks following already uploaded data,
+ * chunks written out of order are not accounted here.
+ *
+ * @since 0.13
+ */
+final class UploadSession {
+
+    /**
+     * Offset after last uploaded byte.
+     */
+    private final long last;
+
+    /**
+     * Digest state of uploaded data.
+     */
+    private final ResumableSha256 sha;
+
+    /**
+     * Ctor for new empty upload.
+     */
+    UploadSession() {
+        this(0L, new ResumableSha256());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param bytes Session bytes created by {@link #bytes()}.
+     */
+    UploadSession(final byte[] bytes) {
+        this(
+            ByteBuffer.wrap(bytes).getLong(),
+            new ResumableSha256(Arrays.copyOfRange(bytes, Long.BYTES, bytes.length))
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param last Offset after last uploaded byte.
+     * @param sha Digest state of uploaded data.
+     */
+    UploadSession(final long last, final ResumableSha256 sha) {
+        this.last = last;
+        this.sha = sha;
+    }
+
+    /**
+     * Offset after last uploaded byte, i.e. size of uploaded data.
+     *
+     * @return Offset.
+     */
+    long end() {
+        return this.last;
+    }
+
+    /**
+     * Digest state of uploaded data.
+     *
+     * @return Digest state.
+     */
+    ResumableSha256 sha() {
+        return this.sha;
+    }
+
+    /**
+     * Check if digest state covers all uploaded data.
+     *
+     * @return True if all uploaded bytes were hashed.
+     */
+    boolean hashed() {
+        return this.sha.length() == this.last;
+    }
+
+    /**
+     * Serialize session.
+     *
+     * @return Session bytes.
+     */
+    byte[] bytes() {
+        final byte[] state = this.sha.state();
+        return ByteBuffer.allocate(Long.BYTES + state.length)
+            .putLong(this.last)
+            .put(state)
+            .array();
+    }
+}
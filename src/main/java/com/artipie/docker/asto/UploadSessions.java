@@ -0,0 +1,181 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.docker.asto;
+
+import com.artipie.asto.Key;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * In-memory registry of active uploads.
+ * Remembers when upload was started and how much data was uploaded,
+ * so existing uploads could be found without listing storage.
+ * Registry is bounded: least recently used uploads are evicted
+ * when capacity is exceeded and uploads older then expiration time are forgotten.
+ * Uploads missing in registry should be looked up in storage.
+ * Registry is local to the process, so it should be enabled only when
+ * all requests of an upload are served by the same node.
+ *
+ * @since 0.13
+ */
+public final class UploadSessions {
+
+    /**
+     * Maximum age of upload.
+     */
+    private final Duration ttl;
+
+    /**
+     * Registered uploads by upload root key.
+     */
+    private final Map<String, Entry> entries;
+
+    /**
+     * Ctor for disabled registry which does not remember any upload.
+     */
+    public UploadSessions() {
+        this(0, Duration.ZERO);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param capacity Maximum number of uploads remembered.
+     * @param ttl Maximum age of upload.
+     */
+    @SuppressWarnings("serial")
+    public UploadSessions(final int capacity, final Duration ttl) {
+        this.ttl = ttl;
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Entry> eldest) {
+                return this.size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Register started upload.
+     *
+     * @param upload Upload root key.
+     */
+    public synchronized void started(final Key upload) {
+        this.entries.put(upload.string(), new Entry(Instant.now(), 0L));
+    }
+
+    /**
+     * Register data appended to upload.
+     *
+     * @param upload Upload root key.
+     * @param size Uploaded data size, smaller values than already registered are ignored.
+     */
+    public synchronized void appended(final Key upload, final long size) {
+        final Optional<Entry> entry = this.entry(upload);
+        this.entries.put(
+            upload.string(),
+            new Entry(
+                entry.map(found -> found.start).orElseGet(Instant::now),
+                Math.max(size, entry.map(found -> found.size).orElse(0L))
+            )
+        );
+    }
+
+    /**
+     * Remove finished upload from registry.
+     *
+     * @param upload Upload root key.
+     */
+    public synchronized void finished(final Key upload) {
+        this.entries.remove(upload.string());
+    }
+
+    /**
+     * Check upload is registered.
+     *
+     * @param upload Upload root key.
+     * @return True if upload is known to be active, false if it should be looked up in storage.
+     */
+    public synchronized boolean active(final Key upload) {
+        return this.entry(upload).isPresent();
+    }
+
+    /**
+     * Get uploaded data size.
+     *
+     * @param upload Upload root key.
+     * @return Uploaded data size, empty if upload is not registered.
+     */
+    public synchronized Optional<Long> size(final Key upload) {
+        return this.entry(upload).map(entry -> entry.size);
+    }
+
+    /**
+     * Get upload registry entry, removing it if expired.
+     *
+     * @param upload Upload root key.
+     * @return Entry, empty if upload is not registered or expired.
+     */
+    private Optional<Entry> entry(final Key upload) {
+        final Optional<Entry> entry = Optional.ofNullable(this.entries.get(upload.string()));
+        final Optional<Entry> alive = entry.filter(
+            found -> Instant.now().isBefore(found.start.plus(this.ttl))
+        );
+        if (entry.isPresent() && !alive.isPresent()) {
+            this.entries.remove(upload.string());
+        }
+        return alive;
+    }
+
+    /**
+     * Registry entry.
+     *
+     * @since 0.13
+     */
+    private static final class Entry {
+
+        /**
+         * Upload start time.
+         */
+        private final Instant start;
+
+        /**
+         * Uploaded data size.
+         */
+        private final long size;
+
+        /**
+         * Ctor.
+         *
+         * @param start Upload start time.
+         * @param size Uploaded data size.
+         */
+        private Entry(final Instant start, final long size) {
+            this.start = start;
+            this.size = size;
+        }
+    }
+}
@@ -109,23 +109,37 @@ public final class CacheManifests implements Manifests {
 
     /**
      * Copy manifest by reference from original to cache.
+     * For manifest list or OCI image index only child manifests are copied,
+     * so layers are cached only for the platform client actually pulls.
      *
      * @param ref Manifest reference.
      * @return Copy completion.
      */
     private CompletionStage<Void> copy(final ManifestRef ref) {
         return this.origin.manifests().get(ref).thenApply(Optional::get).thenCompose(
-            manifest -> CompletableFuture.allOf(
-                this.copy(manifest.config()).toCompletableFuture(),
-                CompletableFuture.allOf(
-                    manifest.layers().stream()
-                        .filter(layer -> layer.urls().isEmpty())
-                        .map(layer -> this.copy(layer.digest()).toCompletableFuture())
-                        .toArray(CompletableFuture[]::new)
-                ).toCompletableFuture()
-            ).thenCompose(
-                nothing -> this.cache.manifests().put(ref, manifest.content())
-            )
+            manifest -> {
+                final CompletionStage<Void> dependencies;
+                if (manifest.index()) {
+                    dependencies = CompletableFuture.allOf(
+                        manifest.manifests().stream()
+                            .map(child -> this.child(child).toCompletableFuture())
+                            .toArray(CompletableFuture[]::new)
+                    );
+                } else {
+                    dependencies = CompletableFuture.allOf(
+                        this.copy(manifest.config()).toCompletableFuture(),
+                        CompletableFuture.allOf(
+                            manifest.layers().stream()
+                                .filter(layer -> layer.urls().isEmpty())
+                                .map(layer -> this.copy(layer.digest()).toCompletableFuture())
+                                .toArray(CompletableFuture[]::new)
+                        ).toCompletableFuture()
+                    );
+                }
+                return dependencies.thenCompose(
+                    nothing -> this.cache.manifests().put(ref, manifest.content())
+                );
+            }
         ).handle(
             (ignored, ex) -> {
                 if (ex != null) {
@@ -138,6 +152,31 @@ public final class CacheManifests implements Manifests {
         );
     }
 
+    /**
+     * Copy child manifest of manifest list from original to cache as blob.
+     * Child manifest is not copied with its layers,
+     * they are cached when client pulls child manifest itself.
+     *
+     * @param digest Child manifest digest.
+     * @return Copy completion.
+     */
+    private CompletionStage<Void> child(final Digest digest) {
+        return this.origin.manifests().get(new ManifestRef.FromDigest(digest)).thenCompose(
+            manifest -> {
+                if (!manifest.isPresent()) {
+                    throw new IllegalArgumentException(
+                        String.format("Failed loading manifest %s", digest)
+                    );
+                }
+                return this.cache.layers().put(
+                    new CheckedBlobSource(manifest.get().content(), digest)
+                );
+            }
+        ).thenCompose(
+            blob -> CompletableFuture.allOf()
+        );
+    }
+
     /**
      * Copy blob by digest from original to cache.
      *
@@ -0,0 +1,60 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.docker.error;
+
+import java.util.Optional;
+
+/**
+ * Invalid number of results requested in paginated list.
+ * See <a href="https://docs.docker.com/registry/spec/api/#errors-2">Errors</a>.
+ *
+ * @since 0.13
+ */
+@SuppressWarnings("serial")
+public final class InvalidPageSizeException extends RuntimeException implements DockerError {
+
+    /**
+     * Ctor.
+     *
+     * @param details Error details.
+     */
+    public InvalidPageSizeException(final String details) {
+        super(details);
+    }
+
+    @Override
+    public String code() {
+        return "PAGINATION_NUMBER_INVALID";
+    }
+
+    @Override
+    public String message() {
+        return "invalid number of results requested";
+    }
+
+    @Override
+    public Optional<String> detail() {
+        return Optional.of(this.getMessage());
+    }
+}
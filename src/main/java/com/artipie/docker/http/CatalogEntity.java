@@ -52,6 +52,11 @@ final class CatalogEntity {
      */
     public static final Pattern PATH = Pattern.compile("^/v2/_catalog$");
 
+    /**
+     * Page size used if client does not specify it.
+     */
+    private static final int PAGE = 100;
+
     /**
      * Ctor.
      */
@@ -91,18 +96,26 @@ final class CatalogEntity {
             final Publisher<ByteBuffer> body
         ) {
             final RqParams params = new RqParams(new RequestLineFrom(line).uri().getQuery());
+            final int limit = new PageSize(params, CatalogEntity.PAGE).value();
             return new AsyncResponse(
                 this.docker.catalog(
                     params.value("last").map(RepoName.Simple::new),
-                    params.value("n").map(Integer::parseInt).orElse(Integer.MAX_VALUE)
+                    limit
                 ).thenApply(
-                    catalog -> new RsWithBody(
-                        new RsWithHeaders(
-                            new RsWithStatus(RsStatus.OK),
-                            new JsonContentType()
-                        ),
-                        catalog.json()
-                    )
+                    catalog -> {
+                        final Response page = new RsWithBody(
+                            new RsWithHeaders(
+                                new RsWithStatus(RsStatus.OK),
+                                new JsonContentType()
+                            ),
+                            catalog.json()
+                        );
+                        return catalog.next().<Response>map(
+                            last -> new RsWithHeaders(
+                                page, new NextLink("/v2/_catalog", limit, last.value())
+                            )
+                        ).orElse(page);
+                    }
                 )
             );
         }
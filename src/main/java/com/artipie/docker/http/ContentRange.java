@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.docker.http;
+
+import com.artipie.docker.error.InvalidUploadException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Content-Range header value of blob upload chunk.
+ * Docker clients send range as {@code <start>-<end>},
+ * standard {@code bytes <start>-<end>/<size>} form is also accepted.
+ *
+ * @since 0.13
+ */
+final class ContentRange {
+
+    /**
+     * Header name.
+     */
+    static final String NAME = "Content-Range";
+
+    /**
+     * RegEx pattern for header value.
+     */
+    private static final Pattern PTN = Pattern.compile(
+        "^(bytes )?(?<start>\\d+)-(?<end>\\d+)(/(\\d+|\\*))?$"
+    );
+
+    /**
+     * Header value.
+     */
+    private final String value;
+
+    /**
+     * Ctor.
+     *
+     * @param value Header value.
+     */
+    ContentRange(final String value) {
+        this.value = value;
+    }
+
+    /**
+     * Offset of first byte in range.
+     *
+     * @return Offset.
+     */
+    long start() {
+        return Long.parseLong(this.matcher().group("start"));
+    }
+
+    /**
+     * Offset of last byte in range, inclusive.
+     *
+     * @return Offset.
+     */
+    long end() {
+        return Long.parseLong(this.matcher().group("end"));
+    }
+
+    /**
+     * Match header value against pattern.
+     *
+     * @return Matcher.
+     */
+    private Matcher matcher() {
+        final Matcher matcher = ContentRange.PTN.matcher(this.value.trim());
+        if (!matcher.matches()) {
+            throw new InvalidUploadException(
+                String.format("Invalid Content-Range: %s", this.value)
+            );
+        }
+        return matcher;
+    }
+}
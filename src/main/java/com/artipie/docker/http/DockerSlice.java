@@ -24,6 +24,7 @@
 package com.artipie.docker.http;
 
 import com.artipie.docker.Docker;
+import com.artipie.docker.manifest.ManifestConversions;
 import com.artipie.http.Slice;
 import com.artipie.http.auth.AuthScheme;
 import com.artipie.http.auth.Authentication;
@@ -74,6 +75,23 @@ public final class DockerSlice extends Slice.Wrap {
      * @param auth Authentication scheme.
      */
     public DockerSlice(final Docker docker, final Permissions perms, final AuthScheme auth) {
+        this(docker, perms, auth, new ManifestConversions());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param docker Docker repository.
+     * @param perms Access permissions.
+     * @param auth Authentication scheme.
+     * @param conversions Manifest conversions shared by manifest endpoints.
+     */
+    public DockerSlice(
+        final Docker docker,
+        final Permissions perms,
+        final AuthScheme auth,
+        final ManifestConversions conversions
+    ) {
         super(
             new ErrorHandlingSlice(
                 new SliceRoute(
@@ -89,14 +107,14 @@ public final class DockerSlice extends Slice.Wrap {
                             new RtRule.ByPath(ManifestEntity.PATH),
                             new ByMethodsRule(RqMethod.HEAD)
                         ),
-                        auth(new ManifestEntity.Head(docker), perms, auth)
+                        auth(new ManifestEntity.Head(docker, conversions), perms, auth)
                     ),
                     new RtRulePath(
                         new RtRule.All(
                             new RtRule.ByPath(ManifestEntity.PATH),
                             ByMethodsRule.Standard.GET
                         ),
-                        auth(new ManifestEntity.Get(docker), perms, auth)
+                        auth(new ManifestEntity.Get(docker, conversions), perms, auth)
                     ),
                     new RtRulePath(
                         new RtRule.All(
@@ -24,16 +24,21 @@
 package com.artipie.docker.http;
 
 import com.artipie.asto.Content;
+import com.artipie.docker.Digest;
 import com.artipie.docker.Docker;
+import com.artipie.docker.Manifests;
 import com.artipie.docker.RepoName;
 import com.artipie.docker.error.ManifestError;
 import com.artipie.docker.manifest.Manifest;
+import com.artipie.docker.manifest.ManifestConversions;
+import com.artipie.docker.manifest.ManifestMeta;
 import com.artipie.docker.misc.RqByRegex;
 import com.artipie.docker.ref.ManifestRef;
 import com.artipie.http.Response;
 import com.artipie.http.async.AsyncResponse;
 import com.artipie.http.headers.ContentLength;
 import com.artipie.http.headers.ContentType;
+import com.artipie.http.headers.Header;
 import com.artipie.http.headers.Location;
 import com.artipie.http.rq.RqHeaders;
 import com.artipie.http.rs.RsStatus;
@@ -42,8 +47,14 @@ import com.artipie.http.rs.RsWithHeaders;
 import com.artipie.http.rs.RsWithStatus;
 import com.artipie.http.rs.StandardRs;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import org.reactivestreams.Publisher;
 
 /**
@@ -80,13 +91,20 @@ final class ManifestEntity {
          */
         private final Docker docker;
 
+        /**
+         * Manifest conversions.
+         */
+        private final ManifestConversions conversions;
+
         /**
          * Ctor.
          *
          * @param docker Docker repository.
+         * @param conversions Manifest conversions.
          */
-        Head(final Docker docker) {
+        Head(final Docker docker, final ManifestConversions conversions) {
             this.docker = docker;
+            this.conversions = conversions;
         }
 
         @Override
@@ -101,24 +119,59 @@ final class ManifestEntity {
             final Publisher<ByteBuffer> body) {
             final Request request = new Request(line);
             final ManifestRef ref = request.reference();
+            final Manifests manifests = this.docker.repo(request.name()).manifests();
+            final Collection<String> accepted = ManifestEntity.accepted(headers);
             return new AsyncResponse(
-                this.docker.repo(request.name()).manifests().get(ref).thenApply(
-                    manifest -> manifest.<Response>map(
-                        found -> new BaseResponse(found.convert(Head.acceptHeader(headers)))
-                    ).orElseGet(
-                        () -> new ErrorsResponse(RsStatus.NOT_FOUND, new ManifestError(ref))
-                    )
+                manifests.meta(ref).thenCompose(
+                    meta -> {
+                        final CompletionStage<Response> result;
+                        if (!meta.isPresent()
+                            || !this.conversions.acceptable(
+                                meta.get().mediaType(), accepted, ref
+                            )) {
+                            result = CompletableFuture.completedFuture(
+                                new ErrorsResponse(RsStatus.NOT_FOUND, new ManifestError(ref))
+                            );
+                        } else if (this.conversions.required(meta.get().mediaType(), accepted)) {
+                            result = manifests.get(ref).thenApply(
+                                manifest -> manifest.<Response>map(
+                                    found -> Head.converted(
+                                        this.conversions.convert(found, accepted)
+                                    )
+                                ).orElseGet(
+                                    () -> new ErrorsResponse(
+                                        RsStatus.NOT_FOUND, new ManifestError(ref)
+                                    )
+                                )
+                            );
+                        } else {
+                            final ManifestMeta found = meta.get();
+                            result = CompletableFuture.completedFuture(
+                                new RsWithHeaders(
+                                    new BaseResponse(found.mediaType(), found.digest()),
+                                    new ContentLength(String.valueOf(found.size()))
+                                )
+                            );
+                        }
+                        return result;
+                    }
                 )
             );
         }
 
         /**
-         * Gets accept header.
-         * @param headers Request headers
-         * @return Accept headers
+         * Response for converted manifest.
+         *
+         * @param manifest Converted manifest.
+         * @return Response without body.
          */
-        private static RqHeaders acceptHeader(final Iterable<Map.Entry<String, String>> headers) {
-            return new RqHeaders(headers, "Accept");
+        private static Response converted(final Manifest manifest) {
+            return manifest.content().size().<Response>map(
+                size -> new RsWithHeaders(
+                    new BaseResponse(manifest),
+                    new ContentLength(String.valueOf(size))
+                )
+            ).orElseGet(() -> new BaseResponse(manifest));
         }
     }
 
@@ -134,13 +187,20 @@ final class ManifestEntity {
          */
         private final Docker docker;
 
+        /**
+         * Manifest conversions.
+         */
+        private final ManifestConversions conversions;
+
         /**
          * Ctor.
          *
          * @param docker Docker repository.
+         * @param conversions Manifest conversions.
          */
-        Get(final Docker docker) {
+        Get(final Docker docker, final ManifestConversions conversions) {
             this.docker = docker;
+            this.conversions = conversions;
         }
 
         @Override
@@ -157,11 +217,14 @@ final class ManifestEntity {
             final Request request = new Request(line);
             final RepoName name = request.name();
             final ManifestRef ref = request.reference();
+            final Collection<String> accepted = ManifestEntity.accepted(headers);
             return new AsyncResponse(
                 this.docker.repo(name).manifests().get(ref).thenApply(
-                    manifest -> manifest.<Response>map(
+                    manifest -> manifest.filter(
+                        found -> this.conversions.acceptable(found.mediaType(), accepted, ref)
+                    ).<Response>map(
                         found -> {
-                            final Manifest mnf = found.convert(Head.acceptHeader(headers));
+                            final Manifest mnf = this.conversions.convert(found, accepted);
                             return new RsWithBody(new BaseResponse(mnf), mnf.content());
                         }
                     ).orElseGet(
@@ -223,6 +286,37 @@ final class ManifestEntity {
         }
     }
 
+    /**
+     * Read media types accepted by client from {@code Accept} headers.
+     * Media type parameters are ignored, types with zero quality are excluded.
+     * Any type is accepted if there is no {@code Accept} header.
+     *
+     * @param headers Request headers.
+     * @return Accepted media types.
+     */
+    private static Collection<String> accepted(
+        final Iterable<Map.Entry<String, String>> headers
+    ) {
+        final RqHeaders values = new RqHeaders(headers, "Accept");
+        final Collection<String> result;
+        if (values.isEmpty()) {
+            result = Collections.singletonList("*/*");
+        } else {
+            result = values.stream()
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .map(range -> range.split(";"))
+                .filter(
+                    range -> Arrays.stream(range).skip(1).map(String::trim).noneMatch(
+                        param -> param.matches("q=0(\\.0{0,3})?")
+                    )
+                )
+                .map(range -> range[0].trim())
+                .filter(type -> !type.isEmpty())
+                .collect(Collectors.toList());
+        }
+        return result;
+    }
+
     /**
      * HTTP request to manifest entity.
      *
@@ -276,11 +370,22 @@ final class ManifestEntity {
          * @param mnf Manifest
          */
         BaseResponse(final Manifest mnf) {
+            this(mnf.mediaType(), mnf.digest());
+        }
+
+        /**
+         * Ctor.
+         *
+         * @param type Manifest media type.
+         * @param digest Manifest digest.
+         */
+        BaseResponse(final String type, final Digest digest) {
             super(
                 new RsWithHeaders(
                     StandardRs.EMPTY,
-                    new ContentType(mnf.mediaType()),
-                    new DigestHeader(mnf.digest())
+                    new ContentType(type),
+                    new DigestHeader(digest),
+                    new Header("Vary", "Accept")
                 )
             );
         }
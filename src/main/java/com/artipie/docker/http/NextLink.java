@@ -0,0 +1,53 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.docker.http;
+
+import com.artipie.http.headers.Header;
+
+/**
+ * Link header pointing to next page of paginated list.
+ * See <a href="https://docs.docker.com/registry/spec/api/#pagination">Pagination</a>.
+ * Repository names and tags consist of URL safe characters only,
+ * so last element of page is used in query as is.
+ *
+ * @since 0.13
+ */
+final class NextLink extends Header.Wrap {
+
+    /**
+     * Ctor.
+     *
+     * @param path Path of paginated resource.
+     * @param limit Page size.
+     * @param last Last element of current page.
+     */
+    NextLink(final String path, final int limit, final String last) {
+        super(
+            new Header(
+                "Link",
+                String.format("<%s?n=%d&last=%s>; rel=\"next\"", path, limit, last)
+            )
+        );
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.docker.http;
+
+import com.artipie.docker.error.InvalidPageSizeException;
+import com.artipie.http.rq.RqParams;
+
+/**
+ * Page size of paginated list requested by client with `n` query parameter.
+ * See <a href="https://docs.docker.com/registry/spec/api/#pagination">Pagination</a>.
+ * Requested size is limited by server maximum.
+ *
+ * @since 0.13
+ */
+final class PageSize {
+
+    /**
+     * Maximum page size.
+     */
+    static final int MAX = 1000;
+
+    /**
+     * Request query parameters.
+     */
+    private final RqParams params;
+
+    /**
+     * Page size used if client does not specify it.
+     */
+    private final int fallback;
+
+    /**
+     * Ctor.
+     *
+     * @param params Request query parameters.
+     * @param fallback Page size used if client does not specify it.
+     */
+    PageSize(final RqParams params, final int fallback) {
+        this.params = params;
+        this.fallback = fallback;
+    }
+
+    /**
+     * Read page size.
+     *
+     * @return Page size, not greater than maximum.
+     * @throws InvalidPageSizeException If requested size is not a non-negative number.
+     */
+    int value() {
+        return Math.min(
+            this.params.value("n").map(PageSize::parse).orElse(this.fallback),
+            PageSize.MAX
+        );
+    }
+
+    /**
+     * Parse requested page size.
+     *
+     * @param value Requested page size.
+     * @return Page size.
+     */
+    private static int parse(final String value) {
+        final int size;
+        try {
+            size = Integer.parseInt(value);
+        } catch (final NumberFormatException ex) {
+            throw new InvalidPageSizeException(
+                String.format("Page size is not a number: %s", value)
+            );
+        }
+        if (size < 0) {
+            throw new InvalidPageSizeException(
+                String.format("Page size is negative: %d", size)
+            );
+        }
+        return size;
+    }
+}
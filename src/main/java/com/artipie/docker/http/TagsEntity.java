@@ -54,6 +54,11 @@ final class TagsEntity {
      */
     public static final Pattern PATH = Pattern.compile("^/v2/(?<name>.*)/tags/list$");
 
+    /**
+     * Page size used if client does not specify it.
+     */
+    private static final int PAGE = 100;
+
     /**
      * Ctor.
      */
@@ -93,18 +98,32 @@ final class TagsEntity {
             final Publisher<ByteBuffer> body
         ) {
             final RqParams params = new RqParams(new RequestLineFrom(line).uri().getQuery());
+            final RepoName name = name(line);
+            final int limit = new PageSize(params, TagsEntity.PAGE).value();
             return new AsyncResponse(
-                this.docker.repo(name(line)).manifests().tags(
+                this.docker.repo(name).manifests().tags(
                     params.value("last").map(Tag.Valid::new),
-                    params.value("n").map(Integer::parseInt).orElse(Integer.MAX_VALUE)
+                    limit
                 ).thenApply(
-                    tags -> new RsWithBody(
-                        new RsWithHeaders(
-                            new RsWithStatus(RsStatus.OK),
-                            new JsonContentType()
-                        ),
-                        tags.json()
-                    )
+                    tags -> {
+                        final Response page = new RsWithBody(
+                            new RsWithHeaders(
+                                new RsWithStatus(RsStatus.OK),
+                                new JsonContentType()
+                            ),
+                            tags.json()
+                        );
+                        return tags.next().<Response>map(
+                            last -> new RsWithHeaders(
+                                page,
+                                new NextLink(
+                                    String.format("/v2/%s/tags/list", name.value()),
+                                    limit,
+                                    last.value()
+                                )
+                            )
+                        ).orElse(page);
+                    }
                 )
             );
         }
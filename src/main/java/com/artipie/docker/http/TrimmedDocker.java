@@ -28,7 +28,6 @@ import com.artipie.docker.Docker;
 import com.artipie.docker.Repo;
 import com.artipie.docker.RepoName;
 import com.artipie.docker.misc.CatalogPage;
-import com.artipie.docker.misc.ParsedCatalog;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 import java.util.regex.Matcher;
@@ -69,7 +68,7 @@ public final class TrimmedDocker implements Docker {
     @Override
     public CompletionStage<Catalog> catalog(final Optional<RepoName> from, final int limit) {
         return this.origin.catalog(from.map(this::trim), limit).thenCompose(
-            catalog -> new ParsedCatalog(catalog).repos()
+            Catalog::repos
         ).thenApply(
             names -> names.stream()
                 .map(name -> String.format("%s/%s", this.prefix, name.value()))
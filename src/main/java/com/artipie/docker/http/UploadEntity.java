@@ -23,10 +23,12 @@
  */
 package com.artipie.docker.http;
 
+import com.artipie.asto.Content;
 import com.artipie.docker.Digest;
 import com.artipie.docker.Docker;
 import com.artipie.docker.Repo;
 import com.artipie.docker.RepoName;
+import com.artipie.docker.asto.CheckedBlobSource;
 import com.artipie.docker.error.UploadUnknownError;
 import com.artipie.docker.misc.RqByRegex;
 import com.artipie.http.Connection;
@@ -36,6 +38,7 @@ import com.artipie.http.headers.ContentLength;
 import com.artipie.http.headers.Header;
 import com.artipie.http.headers.Location;
 import com.artipie.http.rq.RequestLineFrom;
+import com.artipie.http.rq.RqHeaders;
 import com.artipie.http.rq.RqParams;
 import com.artipie.http.rs.RsStatus;
 import com.artipie.http.rs.RsWithHeaders;
@@ -108,15 +111,40 @@ public final class UploadEntity {
             final RepoName target = request.name();
             final Optional<Digest> mount = request.mount();
             final Optional<RepoName> from = request.from();
+            final Optional<Digest> digest = request.monolithic();
             final Response response;
             if (mount.isPresent() && from.isPresent()) {
                 response = this.mount(mount.get(), from.get(), target);
+            } else if (digest.isPresent()) {
+                response = this.upload(target, digest.get(), body);
             } else {
                 response = this.startUpload(target);
             }
             return response;
         }
 
+        /**
+         * Uploads blob in single request, checking it's digest while content is saved.
+         *
+         * @param name Repository name.
+         * @param digest Expected blob digest.
+         * @param body Blob content.
+         * @return HTTP response.
+         */
+        private Response upload(
+            final RepoName name,
+            final Digest digest,
+            final Publisher<ByteBuffer> body
+        ) {
+            return new AsyncResponse(
+                this.docker.repo(name).layers().put(
+                    new CheckedBlobSource(new Content.From(body), digest)
+                ).thenApply(
+                    blob -> new BlobCreatedResponse(name, blob.digest())
+                )
+            );
+        }
+
         /**
          * Mounts specified blob from source repository to target repository.
          *
@@ -194,11 +222,17 @@ public final class UploadEntity {
             final Request request = new Request(line);
             final RepoName name = request.name();
             final String uuid = request.uuid();
+            final Optional<ContentRange> range = new RqHeaders(headers, ContentRange.NAME)
+                .stream()
+                .findFirst()
+                .map(ContentRange::new);
             return new AsyncResponse(
                 this.docker.repo(name).uploads().get(uuid).thenApply(
                     found -> found.<Response>map(
                         upload -> new AsyncResponse(
-                            upload.append(body).thenApply(
+                            range.map(rng -> upload.write(rng.start(), rng.end(), body)).orElseGet(
+                                () -> upload.append(body)
+                            ).thenApply(
                                 offset -> new StatusResponse(name, uuid, offset)
                             )
                         )
@@ -373,6 +407,15 @@ public final class UploadEntity {
             );
         }
 
+        /**
+         * Get "digest" query parameter of monolithic upload.
+         *
+         * @return Digest, empty if parameter does not present in query.
+         */
+        Optional<Digest> monolithic() {
+            return this.params().value("digest").map(Digest.FromString::new);
+        }
+
         /**
          * Get "mount" query parameter.
          *
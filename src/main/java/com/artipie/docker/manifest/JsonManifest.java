@@ -28,10 +28,12 @@ import com.artipie.docker.Digest;
 import java.io.ByteArrayInputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import javax.json.Json;
 import javax.json.JsonObject;
@@ -47,6 +49,14 @@ import javax.json.JsonValue;
 @SuppressWarnings("PMD.AvoidDuplicateLiterals")
 public final class JsonManifest implements Manifest {
 
+    /**
+     * Media types of manifest list and OCI image index.
+     */
+    private static final Collection<String> INDEXES = Arrays.asList(
+        "application/vnd.docker.distribution.manifest.list.v2+json",
+        "application/vnd.oci.image.index.v1+json"
+    );
+
     /**
      * Manifest digest.
      */
@@ -57,6 +67,16 @@ public final class JsonManifest implements Manifest {
      */
     private final byte[] source;
 
+    /**
+     * Parsed JSON object, null until manifest is parsed.
+     */
+    private final AtomicReference<JsonObject> parsed;
+
+    /**
+     * Layers, null until read.
+     */
+    private final AtomicReference<Collection<Layer>> lrs;
+
     /**
      * Ctor.
      *
@@ -66,6 +86,8 @@ public final class JsonManifest implements Manifest {
     public JsonManifest(final Digest dgst, final byte[] source) {
         this.dgst = dgst;
         this.source = Arrays.copyOf(source, source.length);
+        this.parsed = new AtomicReference<>();
+        this.lrs = new AtomicReference<>();
     }
 
     @Override
@@ -75,15 +97,20 @@ public final class JsonManifest implements Manifest {
 
     @Override
     public Manifest convert(final Collection<String> options) {
-        if (!options.contains("*/*")) {
-            final String type = this.mediaType();
-            if (!options.contains(type)) {
-                throw new IllegalArgumentException(
-                    String.format("Cannot convert from '%s' to any of '%s'", type, options)
-                );
-            }
+        final Manifest result;
+        final String type = this.mediaType();
+        if (options.contains("*/*") || options.contains(type)) {
+            result = this;
+        } else if (MediaTypes.equivalent(type).filter(options::contains).isPresent()) {
+            final byte[] converted = MediaTypes.convert(this.json()).toString()
+                .getBytes(StandardCharsets.UTF_8);
+            result = new JsonManifest(new Digest.Sha256(converted), converted);
+        } else {
+            throw new IllegalArgumentException(
+                String.format("Cannot convert from '%s' to any of '%s'", type, options)
+            );
         }
-        return this;
+        return result;
     }
 
     @Override
@@ -93,9 +120,32 @@ public final class JsonManifest implements Manifest {
 
     @Override
     public Collection<Layer> layers() {
-        return this.json().getJsonArray("layers").getValuesAs(JsonValue::asJsonObject).stream()
-            .map(JsonLayer::new)
-            .collect(Collectors.toList());
+        Collection<Layer> layers = this.lrs.get();
+        if (layers == null) {
+            layers = Collections.unmodifiableList(
+                this.json().getJsonArray("layers").getValuesAs(JsonValue::asJsonObject).stream()
+                    .map(JsonLayer::new)
+                    .collect(Collectors.toList())
+            );
+            this.lrs.compareAndSet(null, layers);
+        }
+        return layers;
+    }
+
+    @Override
+    public boolean index() {
+        final JsonObject json = this.json();
+        return json.containsKey("manifests")
+            || JsonManifest.INDEXES.contains(json.getString("mediaType", ""));
+    }
+
+    @Override
+    public Collection<Digest> manifests() {
+        return Optional.ofNullable(this.json().getJsonArray("manifests")).map(
+            manifests -> manifests.getValuesAs(JsonValue::asJsonObject).stream()
+                .<Digest>map(child -> new Digest.FromString(child.getString("digest")))
+                .collect(Collectors.toList())
+        ).orElseGet(Collections::emptyList);
     }
 
     @Override
@@ -110,13 +160,19 @@ public final class JsonManifest implements Manifest {
 
     /**
      * Read manifest content as JSON object.
+     * Content is parsed once on first access, parsed object is immutable and shared.
      *
      * @return JSON object.
      */
     private JsonObject json() {
-        try (JsonReader reader = Json.createReader(new ByteArrayInputStream(this.source))) {
-            return reader.readObject();
+        JsonObject json = this.parsed.get();
+        if (json == null) {
+            try (JsonReader reader = Json.createReader(new ByteArrayInputStream(this.source))) {
+                json = reader.readObject();
+            }
+            this.parsed.compareAndSet(null, json);
         }
+        return json;
     }
 
     /**
@@ -145,6 +201,11 @@ public final class JsonManifest implements Manifest {
             return new Digest.FromString(this.json.getString("digest"));
         }
 
+        @Override
+        public long size() {
+            return this.json.getJsonNumber("size").longValue();
+        }
+
         @Override
         public Collection<URL> urls() {
             return Optional.ofNullable(this.json.getJsonArray("urls")).map(
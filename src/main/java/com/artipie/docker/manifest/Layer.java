@@ -41,6 +41,13 @@ public interface Layer {
      */
     Digest digest();
 
+    /**
+     * Read layer content size.
+     *
+     * @return Layer size in bytes.
+     */
+    long size();
+
     /**
      * Provides a list of URLs from which the content may be fetched.
      *
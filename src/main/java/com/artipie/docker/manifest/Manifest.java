@@ -64,6 +64,20 @@ public interface Manifest {
      */
     Collection<Layer> layers();
 
+    /**
+     * Check manifest is manifest list or OCI image index.
+     *
+     * @return True if manifest lists child manifests.
+     */
+    boolean index();
+
+    /**
+     * Read child manifest digests of manifest list or OCI image index.
+     *
+     * @return Child manifest digests, empty if manifest is not a manifest list.
+     */
+    Collection<Digest> manifests();
+
     /**
      * Manifest digest.
      *
@@ -0,0 +1,139 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.docker.manifest;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.FailedCompletionStage;
+import com.artipie.docker.error.InvalidManifestException;
+import hu.akarnokd.rxjava2.interop.SingleInterop;
+import io.reactivex.Flowable;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Manifest content read into memory with size limit.
+ * Reading fails with {@link InvalidManifestException} as soon as limit is exceeded,
+ * before whole content is buffered. Content with known size exceeding limit
+ * is not read at all.
+ *
+ * @since 0.13
+ */
+public final class ManifestBytes {
+
+    /**
+     * Default manifest size limit, 4 MiB.
+     */
+    public static final long LIMIT = 4L * 1024 * 1024;
+
+    /**
+     * Initial buffer size for content of unknown size.
+     */
+    private static final int INITIAL = 4096;
+
+    /**
+     * Manifest content.
+     */
+    private final Content content;
+
+    /**
+     * Maximum manifest size in bytes.
+     */
+    private final long limit;
+
+    /**
+     * Ctor.
+     *
+     * @param content Manifest content.
+     */
+    public ManifestBytes(final Content content) {
+        this(content, ManifestBytes.LIMIT);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param content Manifest content.
+     * @param limit Maximum manifest size in bytes.
+     */
+    public ManifestBytes(final Content content, final long limit) {
+        this.content = content;
+        this.limit = limit;
+    }
+
+    /**
+     * Read manifest bytes.
+     *
+     * @return Manifest bytes.
+     */
+    public CompletionStage<byte[]> value() {
+        final CompletionStage<byte[]> result;
+        if (this.content.size().filter(size -> size > this.limit).isPresent()) {
+            result = new FailedCompletionStage<>(this.exceeded());
+        } else {
+            result = Flowable.fromPublisher(this.content).reduceWith(
+                () -> new ByteArrayOutputStream(
+                    this.content.size().map(Long::intValue).orElse(ManifestBytes.INITIAL)
+                ),
+                (stream, buf) -> {
+                    if (stream.size() + buf.remaining() > this.limit) {
+                        throw this.exceeded();
+                    }
+                    ManifestBytes.write(stream, buf);
+                    return stream;
+                }
+            ).map(ByteArrayOutputStream::toByteArray).to(SingleInterop.get());
+        }
+        return result;
+    }
+
+    /**
+     * Write buffer bytes to stream without changing buffer position.
+     * Bytes of heap buffer are written straight from its backing array,
+     * other buffers are copied once through temporary array.
+     *
+     * @param stream Output stream.
+     * @param buf Buffer.
+     */
+    private static void write(final ByteArrayOutputStream stream, final ByteBuffer buf) {
+        if (buf.hasArray()) {
+            stream.write(buf.array(), buf.arrayOffset() + buf.position(), buf.remaining());
+        } else {
+            final byte[] bytes = new byte[buf.remaining()];
+            buf.duplicate().get(bytes);
+            stream.write(bytes, 0, bytes.length);
+        }
+    }
+
+    /**
+     * Error for manifest exceeding size limit.
+     *
+     * @return Exception.
+     */
+    private InvalidManifestException exceeded() {
+        return new InvalidManifestException(
+            String.format("Manifest size exceeds limit of %d bytes", this.limit)
+        );
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.docker.manifest;
+
+import com.artipie.docker.Digest;
+import com.artipie.docker.ref.ManifestRef;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Manifest content negotiation.
+ * Chooses manifest representation acceptable by client: stored manifest is preferred
+ * since it keeps manifest digest, equivalent media type is used when stored one
+ * is not accepted. Converted manifests are cached by digest and target media type,
+ * so each conversion is performed once. Manifest requested by digest is never converted,
+ * as well as manifest list and image index.
+ * Cache is bounded: least recently used entries are evicted when capacity is exceeded.
+ *
+ * @since 0.13
+ */
+public final class ManifestConversions {
+
+    /**
+     * Any media type.
+     */
+    private static final String ANY = "*/*";
+
+    /**
+     * Default cache capacity.
+     */
+    private static final int CAPACITY = 1000;
+
+    /**
+     * Converted manifests by digest and target media type.
+     */
+    private final Map<String, Manifest> converted;
+
+    /**
+     * Ctor.
+     */
+    public ManifestConversions() {
+        this(ManifestConversions.CAPACITY);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param capacity Maximum number of cached converted manifests.
+     */
+    @SuppressWarnings("serial")
+    public ManifestConversions(final int capacity) {
+        this.converted = new LinkedHashMap<String, Manifest>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Manifest> eldest) {
+                return this.size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Check manifest of media type may be served to client accepting media types,
+     * as is or converted.
+     *
+     * @param type Manifest media type.
+     * @param accepted Media types accepted by client.
+     * @return True if manifest is acceptable.
+     */
+    public boolean acceptable(final String type, final Collection<String> accepted) {
+        return !this.required(type, accepted)
+            || MediaTypes.equivalent(type).filter(accepted::contains).isPresent();
+    }
+
+    /**
+     * Check manifest of media type requested by reference may be served to client.
+     * Manifest requested by digest is served only as is: converted manifest
+     * has another digest, so it is not the content client asked for.
+     *
+     * @param type Manifest media type.
+     * @param accepted Media types accepted by client.
+     * @param ref Manifest reference.
+     * @return True if manifest is acceptable.
+     */
+    public boolean acceptable(
+        final String type, final Collection<String> accepted, final ManifestRef ref
+    ) {
+        final boolean result;
+        if (new Digest.FromString(ref.string()).valid()) {
+            result = !this.required(type, accepted);
+        } else {
+            result = this.acceptable(type, accepted);
+        }
+        return result;
+    }
+
+    /**
+     * Check manifest of media type should be converted to be accepted by client.
+     *
+     * @param type Manifest media type.
+     * @param accepted Media types accepted by client.
+     * @return True if conversion is required.
+     */
+    public boolean required(final String type, final Collection<String> accepted) {
+        return !accepted.contains(ManifestConversions.ANY) && !accepted.contains(type);
+    }
+
+    /**
+     * Convert manifest to representation accepted by client.
+     *
+     * @param manifest Manifest.
+     * @param accepted Media types accepted by client.
+     * @return Manifest as is or converted one.
+     */
+    public Manifest convert(final Manifest manifest, final Collection<String> accepted) {
+        final Manifest result;
+        final String type = manifest.mediaType();
+        final Optional<String> target = MediaTypes.equivalent(type).filter(accepted::contains);
+        if (this.required(type, accepted) && target.isPresent()) {
+            final String key = String.format("%s %s", manifest.digest().string(), target.get());
+            final Optional<Manifest> cached = this.cached(key);
+            if (cached.isPresent()) {
+                result = cached.get();
+            } else {
+                result = manifest.convert(accepted);
+                this.cache(key, result);
+            }
+        } else {
+            result = manifest.convert(accepted);
+        }
+        return result;
+    }
+
+    /**
+     * Get cached converted manifest.
+     *
+     * @param key Cache key.
+     * @return Converted manifest, empty if not cached.
+     */
+    private synchronized Optional<Manifest> cached(final String key) {
+        return Optional.ofNullable(this.converted.get(key));
+    }
+
+    /**
+     * Cache converted manifest.
+     *
+     * @param key Cache key.
+     * @param manifest Converted manifest.
+     */
+    private synchronized void cache(final String key, final Manifest manifest) {
+        this.converted.put(key, manifest);
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.docker.manifest;
+
+import com.artipie.docker.Digest;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+
+/**
+ * Manifest metadata: digest, media type and size of manifest content.
+ * Sufficient to answer manifest HEAD request without reading manifest content.
+ *
+ * @since 0.13
+ */
+public final class ManifestMeta {
+
+    /**
+     * Media type JSON field.
+     */
+    private static final String TYPE = "mediaType";
+
+    /**
+     * Size JSON field.
+     */
+    private static final String SIZE = "size";
+
+    /**
+     * Manifest digest.
+     */
+    private final Digest dgst;
+
+    /**
+     * Manifest media type.
+     */
+    private final String type;
+
+    /**
+     * Manifest content size.
+     */
+    private final long length;
+
+    /**
+     * Ctor.
+     *
+     * @param dgst Manifest digest.
+     * @param type Manifest media type.
+     * @param length Manifest content size.
+     */
+    public ManifestMeta(final Digest dgst, final String type, final long length) {
+        this.dgst = dgst;
+        this.type = type;
+        this.length = length;
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param dgst Manifest digest.
+     * @param json Metadata serialized by {@link #bytes()}.
+     */
+    public ManifestMeta(final Digest dgst, final byte[] json) {
+        this(dgst, ManifestMeta.read(json));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param dgst Manifest digest.
+     * @param json Metadata JSON.
+     */
+    private ManifestMeta(final Digest dgst, final JsonObject json) {
+        this(
+            dgst,
+            json.getString(ManifestMeta.TYPE),
+            json.getJsonNumber(ManifestMeta.SIZE).longValue()
+        );
+    }
+
+    /**
+     * Manifest digest.
+     *
+     * @return Digest.
+     */
+    public Digest digest() {
+        return this.dgst;
+    }
+
+    /**
+     * Manifest media type.
+     *
+     * @return Media type.
+     */
+    public String mediaType() {
+        return this.type;
+    }
+
+    /**
+     * Manifest content size.
+     *
+     * @return Size in bytes.
+     */
+    public long size() {
+        return this.length;
+    }
+
+    /**
+     * Serialize metadata, except digest.
+     *
+     * @return JSON bytes.
+     */
+    public byte[] bytes() {
+        return Json.createObjectBuilder()
+            .add(ManifestMeta.TYPE, this.type)
+            .add(ManifestMeta.SIZE, this.length)
+            .build().toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Read metadata JSON.
+     *
+     * @param json JSON bytes.
+     * @return JSON object.
+     */
+    private static JsonObject read(final byte[] json) {
+        try (JsonReader reader = Json.createReader(new ByteArrayInputStream(json))) {
+            return reader.readObject();
+        }
+    }
+}
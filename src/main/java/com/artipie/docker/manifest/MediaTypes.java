@@ -0,0 +1,167 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.docker.manifest;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+
+/**
+ * Docker and OCI media types which are equivalent to each other.
+ * Docker image manifest V2 schema 2 and OCI image manifest have same structure
+ * and differ only in media types, so manifest may be converted by replacing them.
+ * Docker manifest list and OCI image index are not converted: children they list
+ * would keep digests of manifests with original media types.
+ *
+ * @since 0.13
+ */
+final class MediaTypes {
+
+    /**
+     * Media type JSON field.
+     */
+    private static final String TYPE = "mediaType";
+
+    /**
+     * Equivalent media types, both directions.
+     */
+    private static final Map<String, String> EQUIVALENT = MediaTypes.pairs(
+        "application/vnd.docker.distribution.manifest.v2+json",
+        "application/vnd.oci.image.manifest.v1+json",
+        "application/vnd.docker.container.image.v1+json",
+        "application/vnd.oci.image.config.v1+json",
+        "application/vnd.docker.image.rootfs.diff.tar.gzip",
+        "application/vnd.oci.image.layer.v1.tar+gzip",
+        "application/vnd.docker.image.rootfs.foreign.diff.tar.gzip",
+        "application/vnd.oci.image.layer.nondistributable.v1.tar+gzip"
+    );
+
+    /**
+     * Ctor.
+     */
+    private MediaTypes() {
+    }
+
+    /**
+     * Find media type equivalent to given one.
+     *
+     * @param type Media type.
+     * @return Equivalent media type, empty if there is none.
+     */
+    static Optional<String> equivalent(final String type) {
+        return Optional.ofNullable(MediaTypes.EQUIVALENT.get(type));
+    }
+
+    /**
+     * Convert manifest JSON by replacing media types of manifest itself,
+     * its config and layers with equivalent ones.
+     *
+     * @param json Manifest JSON.
+     * @return Converted manifest JSON.
+     */
+    static JsonObject convert(final JsonObject json) {
+        final JsonObjectBuilder builder = Json.createObjectBuilder();
+        for (final Map.Entry<String, JsonValue> field : json.entrySet()) {
+            final String name = field.getKey();
+            final JsonValue value = field.getValue();
+            if (MediaTypes.TYPE.equals(name)) {
+                builder.add(name, MediaTypes.replaced(value));
+            } else if ("config".equals(name) && value.getValueType() == JsonValue.ValueType.OBJECT) {
+                builder.add(name, MediaTypes.descriptor(value.asJsonObject()));
+            } else if (
+                "layers".equals(name) && value.getValueType() == JsonValue.ValueType.ARRAY
+            ) {
+                final JsonArrayBuilder array = Json.createArrayBuilder();
+                for (final JsonValue item : value.asJsonArray()) {
+                    if (item.getValueType() == JsonValue.ValueType.OBJECT) {
+                        array.add(MediaTypes.descriptor(item.asJsonObject()));
+                    } else {
+                        array.add(item);
+                    }
+                }
+                builder.add(name, array);
+            } else {
+                builder.add(name, value);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Convert descriptor JSON by replacing its media type.
+     *
+     * @param json Descriptor JSON.
+     * @return Converted descriptor JSON.
+     */
+    private static JsonObject descriptor(final JsonObject json) {
+        final JsonObjectBuilder builder = Json.createObjectBuilder();
+        for (final Map.Entry<String, JsonValue> field : json.entrySet()) {
+            if (MediaTypes.TYPE.equals(field.getKey())) {
+                builder.add(field.getKey(), MediaTypes.replaced(field.getValue()));
+            } else {
+                builder.add(field.getKey(), field.getValue());
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Replace media type value with equivalent one if there is any.
+     *
+     * @param value Media type JSON value.
+     * @return Replaced media type JSON value.
+     */
+    private static JsonValue replaced(final JsonValue value) {
+        JsonValue result = value;
+        if (value.getValueType() == JsonValue.ValueType.STRING) {
+            final Optional<String> type = MediaTypes.equivalent(((JsonString) value).getString());
+            if (type.isPresent()) {
+                result = Json.createValue(type.get());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Build map of equivalent types.
+     *
+     * @param pairs Pairs of equivalent types.
+     * @return Map of equivalent types, both directions.
+     */
+    private static Map<String, String> pairs(final String... pairs) {
+        final Map<String, String> map = new HashMap<>();
+        for (int idx = 0; idx < pairs.length; idx += 2) {
+            map.put(pairs[idx], pairs[idx + 1]);
+            map.put(pairs[idx + 1], pairs[idx]);
+        }
+        return Collections.unmodifiableMap(map);
+    }
+}
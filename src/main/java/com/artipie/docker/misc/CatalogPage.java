@@ -27,9 +27,12 @@ import com.artipie.asto.Content;
 import com.artipie.docker.Catalog;
 import com.artipie.docker.RepoName;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
-import javax.json.Json;
-import javax.json.JsonArrayBuilder;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
 
 /**
  * {@link Catalog} that is a page of given repository names list.
@@ -72,20 +75,35 @@ public final class CatalogPage implements Catalog {
 
     @Override
     public Content json() {
-        final JsonArrayBuilder builder = Json.createArrayBuilder();
-        this.names.stream()
+        return new Content.From(
+            new NamesJsonFlowable(Collections.emptyMap(), "repositories", this.page())
+        );
+    }
+
+    @Override
+    public CompletionStage<List<RepoName>> repos() {
+        return CompletableFuture.completedFuture(
+            this.page().stream().map(RepoName.Simple::new).collect(Collectors.toList())
+        );
+    }
+
+    @Override
+    public Optional<RepoName> next() {
+        return new PageNext(this.page(), this.limit).value().map(RepoName.Simple::new);
+    }
+
+    /**
+     * Select page of repository names.
+     *
+     * @return Ordered repository names page.
+     */
+    private List<String> page() {
+        return this.names.stream()
             .map(RepoName::value)
             .filter(name -> this.from.map(last -> name.compareTo(last.value()) > 0).orElse(true))
             .sorted()
             .distinct()
             .limit(this.limit)
-            .forEach(builder::add);
-        return new Content.From(
-            Json.createObjectBuilder()
-                .add("repositories", builder)
-                .build()
-                .toString()
-                .getBytes()
-        );
+            .collect(Collectors.toList());
     }
 }
@@ -26,14 +26,7 @@ package com.artipie.docker.misc;
 import com.artipie.asto.Content;
 import com.artipie.docker.Digest;
 import hu.akarnokd.rxjava2.interop.SingleInterop;
-import io.reactivex.Completable;
-import io.reactivex.Flowable;
-import io.reactivex.Single;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.util.concurrent.CompletionStage;
-import org.cactoos.io.BytesOf;
-import org.cactoos.text.HexOf;
 
 /**
  * Digest from content.
@@ -59,27 +52,9 @@ public final class DigestFromContent {
      * @return CompletionStage from digest
      */
     public CompletionStage<Digest> digest() {
-        final MessageDigest sha;
-        try {
-            sha = MessageDigest.getInstance("SHA-256");
-        } catch (final NoSuchAlgorithmException err) {
-            throw new IllegalStateException("This runtime doesn't have SHA-256 algorithm", err);
-        }
-        return Flowable.fromPublisher(this.content)
-            .flatMapCompletable(
-                buf -> Completable.fromAction(
-                    () -> {
-                        buf.mark();
-                        sha.update(buf);
-                        buf.reset();
-                    }
-                )
-            )
-            .<Digest>andThen(
-                Single.fromCallable(
-                    () -> new Digest.Sha256(new HexOf(new BytesOf(sha.digest())).asString())
-                )
-            )
+        final DigestedFlowable digested = new DigestedFlowable(this.content);
+        return digested.ignoreElements()
+            .<Digest>toSingle(digested::digest)
             .to(SingleInterop.get()).toCompletableFuture();
     }
 
@@ -23,7 +23,6 @@
  */
 package com.artipie.docker.misc;
 
-import com.artipie.asto.Remaining;
 import com.artipie.asto.ext.Digests;
 import com.artipie.docker.Digest;
 import io.reactivex.Flowable;
@@ -38,6 +37,8 @@ import org.reactivestreams.Subscriber;
 
 /**
  * {@link Flowable} that calculates digest of origin {@link Publisher} bytes when they pass by.
+ * Buffers are hashed in place, without copying their bytes,
+ * on {@link HashingScheduler} before they are passed downstream.
  *
  * @since 0.12
  */
@@ -66,12 +67,7 @@ public final class DigestedFlowable extends Flowable<ByteBuffer> {
     @Override
     public void subscribeActual(final Subscriber<? super ByteBuffer> subscriber) {
         final MessageDigest sha = Digests.SHA256.get();
-        Flowable.fromPublisher(this.origin).map(
-            buf -> {
-                sha.update(new Remaining(buf, true).bytes());
-                return buf;
-            }
-        ).doOnComplete(
+        HashingScheduler.hashed(this.origin, sha::update).doOnComplete(
             () -> this.dig.set(
                 new Digest.Sha256(new HexOf(new BytesOf(sha.digest())).asString())
             )
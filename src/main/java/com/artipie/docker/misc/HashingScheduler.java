@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.docker.misc;
+
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.functions.Consumer;
+import io.reactivex.schedulers.Schedulers;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.reactivestreams.Publisher;
+
+/**
+ * Scheduler for content hashing.
+ * Hashing is CPU bound, so it runs on a dedicated pool with one thread per core
+ * instead of the I/O thread delivering request body.
+ * Only hashing runs on the pool: buffers are passed downstream, e.g. to storage
+ * writes, on I/O scheduler, so I/O never occupies hashing threads.
+ *
+ * @since 0.13
+ */
+public final class HashingScheduler {
+
+    /**
+     * Maximum number of buffers requested ahead of hashing and of downstream.
+     */
+    private static final int PREFETCH = 16;
+
+    /**
+     * Shared scheduler.
+     */
+    private static final Scheduler SHARED = HashingScheduler.create();
+
+    /**
+     * Ctor.
+     */
+    private HashingScheduler() {
+    }
+
+    /**
+     * Hash origin buffers on hashing scheduler before passing them downstream.
+     * Each buffer is hashed in place and emitted only after it is hashed,
+     * so downstream never consumes or recycles a buffer being hashed.
+     * Buffers are hashed one by one in order of arrival and at most
+     * {@link #PREFETCH} of them are requested ahead on each side of hashing.
+     * Hashing failure is emitted as error.
+     *
+     * @param origin Origin publisher.
+     * @param hash Hashing function, called sequentially for each buffer.
+     * @return Flowable of origin buffers.
+     */
+    public static Flowable<ByteBuffer> hashed(
+        final Publisher<ByteBuffer> origin, final Consumer<ByteBuffer> hash
+    ) {
+        return Flowable.fromPublisher(origin)
+            .observeOn(HashingScheduler.SHARED, false, HashingScheduler.PREFETCH)
+            .doOnNext(
+                buf -> {
+                    final int position = buf.position();
+                    hash.accept(buf);
+                    buf.position(position);
+                }
+            )
+            .observeOn(Schedulers.io(), false, HashingScheduler.PREFETCH);
+    }
+
+    /**
+     * Create scheduler backed by fixed size pool of daemon threads.
+     *
+     * @return Scheduler.
+     */
+    private static Scheduler create() {
+        final AtomicInteger count = new AtomicInteger();
+        return Schedulers.from(
+            Executors.newFixedThreadPool(
+                Runtime.getRuntime().availableProcessors(),
+                runnable -> {
+                    final Thread thread = new Thread(
+                        runnable,
+                        String.format("docker-hashing-%d", count.incrementAndGet())
+                    );
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            )
+        );
+    }
+}
@@ -94,16 +94,27 @@ public final class JoinedCatalogSource {
      * @return Catalog.
      */
     public CompletionStage<Catalog> catalog() {
-        final List<CompletionStage<List<RepoName>>> all = this.dockers.stream().map(
+        final List<CompletableFuture<List<String>>> all = this.dockers.stream().map(
             docker -> docker.catalog(this.from, this.limit)
-                .thenApply(ParsedCatalog::new)
-                .thenCompose(ParsedCatalog::repos)
+                .thenCompose(Catalog::repos)
+                .<List<String>>thenApply(
+                    repos -> repos.stream().map(RepoName::value).collect(Collectors.toList())
+                )
                 .exceptionally(err -> Collections.emptyList())
+                .toCompletableFuture()
         ).collect(Collectors.toList());
         return CompletableFuture.allOf(all.toArray(new CompletableFuture<?>[0])).thenApply(
-            nothing -> all.stream().flatMap(
-                stage -> stage.toCompletableFuture().join().stream()
-            ).collect(Collectors.toList())
-        ).thenApply(names -> new CatalogPage(names, this.from, this.limit));
+            nothing -> new SortedUnion(
+                all.stream().map(CompletableFuture::join).collect(Collectors.toList()),
+                this.from.map(RepoName::value),
+                this.limit
+            ).value()
+        ).thenApply(
+            names -> new CatalogPage(
+                names.stream().map(RepoName.Simple::new).collect(Collectors.toList()),
+                Optional.empty(),
+                this.limit
+            )
+        );
     }
 }
@@ -107,16 +107,28 @@ public final class JoinedTagsSource {
      * @return Tags.
      */
     public CompletionStage<Tags> tags() {
-        final List<CompletionStage<List<Tag>>> all = this.manifests.stream().map(
+        final List<CompletableFuture<List<String>>> all = this.manifests.stream().map(
             mnfsts -> mnfsts.tags(this.from, this.limit)
-                .thenApply(ParsedTags::new)
-                .thenCompose(ParsedTags::tags)
+                .thenCompose(Tags::tags)
+                .<List<String>>thenApply(
+                    tags -> tags.stream().map(Tag::value).collect(Collectors.toList())
+                )
                 .exceptionally(err -> Collections.emptyList())
+                .toCompletableFuture()
         ).collect(Collectors.toList());
         return CompletableFuture.allOf(all.toArray(new CompletableFuture<?>[0])).thenApply(
-            nothing -> all.stream().flatMap(
-                stage -> stage.toCompletableFuture().join().stream()
-            ).collect(Collectors.toList())
-        ).thenApply(names -> new TagsPage(this.repo, names, this.from, this.limit));
+            nothing -> new SortedUnion(
+                all.stream().map(CompletableFuture::join).collect(Collectors.toList()),
+                this.from.map(Tag::value),
+                this.limit
+            ).value()
+        ).thenApply(
+            names -> new TagsPage(
+                this.repo,
+                names.stream().map(Tag.Valid::new).collect(Collectors.toList()),
+                Optional.empty(),
+                this.limit
+            )
+        );
     }
 }
@@ -0,0 +1,203 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.docker.misc;
+
+import io.reactivex.Emitter;
+import io.reactivex.Flowable;
+import io.reactivex.functions.BiConsumer;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.Map;
+import javax.json.Json;
+import javax.json.stream.JsonGenerator;
+import org.reactivestreams.Subscriber;
+
+/**
+ * {@link Flowable} of JSON object with string fields and an array of names,
+ * like `{"name":"my-image","tags":["1.0","latest"]}`.
+ * JSON is generated on demand in chunks of about given size: generator is flushed
+ * after each name, so chunk exceeds the size by one name at most
+ * and whole document is never held in memory.
+ *
+ * @since 0.13
+ */
+public final class NamesJsonFlowable extends Flowable<ByteBuffer> {
+
+    /**
+     * Default chunk size.
+     */
+    private static final int CHUNK = 8 * 1024;
+
+    /**
+     * String fields written before names array.
+     */
+    private final Map<String, String> fields;
+
+    /**
+     * Names array field name.
+     */
+    private final String array;
+
+    /**
+     * Names.
+     */
+    private final Iterable<String> names;
+
+    /**
+     * Chunk size.
+     */
+    private final int chunk;
+
+    /**
+     * Ctor.
+     *
+     * @param fields String fields written before names array.
+     * @param array Names array field name.
+     * @param names Names.
+     */
+    public NamesJsonFlowable(
+        final Map<String, String> fields,
+        final String array,
+        final Iterable<String> names
+    ) {
+        this(fields, array, names, NamesJsonFlowable.CHUNK);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param fields String fields written before names array.
+     * @param array Names array field name.
+     * @param names Names.
+     * @param chunk Chunk size.
+     * @checkstyle ParameterNumberCheck (2 lines)
+     */
+    public NamesJsonFlowable(
+        final Map<String, String> fields,
+        final String array,
+        final Iterable<String> names,
+        final int chunk
+    ) {
+        this.fields = fields;
+        this.array = array;
+        this.names = names;
+        this.chunk = chunk;
+    }
+
+    @Override
+    public void subscribeActual(final Subscriber<? super ByteBuffer> subscriber) {
+        Flowable.generate(
+            () -> new Chunks(this.names.iterator(), this.chunk),
+            (BiConsumer<Chunks, Emitter<ByteBuffer>>) (chunks, emitter) -> chunks.next(
+                emitter, this.fields, this.array
+            )
+        ).subscribe(subscriber);
+    }
+
+    /**
+     * Generation state: names left to write and bytes written but not emitted yet.
+     *
+     * @since 0.13
+     */
+    private static final class Chunks {
+
+        /**
+         * Names left to write.
+         */
+        private final Iterator<String> names;
+
+        /**
+         * Chunk size.
+         */
+        private final int size;
+
+        /**
+         * Bytes written but not emitted yet.
+         */
+        private final ByteArrayOutputStream out;
+
+        /**
+         * JSON generator writing to buffer.
+         */
+        private final JsonGenerator generator;
+
+        /**
+         * Whether JSON object is started.
+         */
+        private boolean started;
+
+        /**
+         * Whether JSON object is finished.
+         */
+        private boolean finished;
+
+        /**
+         * Ctor.
+         *
+         * @param names Names left to write.
+         * @param size Chunk size.
+         */
+        Chunks(final Iterator<String> names, final int size) {
+            this.names = names;
+            this.size = size;
+            this.out = new ByteArrayOutputStream(size);
+            this.generator = Json.createGenerator(this.out);
+        }
+
+        /**
+         * Write next chunk and emit it or complete if JSON is finished.
+         *
+         * @param emitter Chunks emitter.
+         * @param fields String fields written before names array.
+         * @param array Names array field name.
+         */
+        void next(
+            final Emitter<ByteBuffer> emitter,
+            final Map<String, String> fields,
+            final String array
+        ) {
+            if (this.finished) {
+                emitter.onComplete();
+            } else {
+                if (!this.started) {
+                    this.generator.writeStartObject();
+                    fields.forEach(this.generator::write);
+                    this.generator.writeStartArray(array);
+                    this.started = true;
+                    this.generator.flush();
+                }
+                while (this.names.hasNext() && this.out.size() < this.size) {
+                    this.generator.write(this.names.next()).flush();
+                }
+                if (!this.names.hasNext()) {
+                    this.generator.writeEnd().writeEnd().close();
+                    this.finished = true;
+                }
+                emitter.onNext(ByteBuffer.wrap(this.out.toByteArray()));
+                this.out.reset();
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.docker.misc;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reference to next page of names: last name of the page if page is full.
+ * Page shorter than limit is the last one, so there is no next page.
+ *
+ * @since 0.13
+ */
+public final class PageNext {
+
+    /**
+     * Ordered names page.
+     */
+    private final List<String> page;
+
+    /**
+     * Maximum number of names in page.
+     */
+    private final int limit;
+
+    /**
+     * Ctor.
+     *
+     * @param page Ordered names page.
+     * @param limit Maximum number of names in page.
+     */
+    public PageNext(final List<String> page, final int limit) {
+        this.page = page;
+        this.limit = limit;
+    }
+
+    /**
+     * Read name to start next page from, exclusive.
+     *
+     * @return Last name of page, empty if there is no next page.
+     */
+    public Optional<String> value() {
+        final Optional<String> next;
+        if (this.page.isEmpty() || this.page.size() < this.limit) {
+            next = Optional.empty();
+        } else {
+            next = Optional.of(this.page.get(this.page.size() - 1));
+        }
+        return next;
+    }
+}
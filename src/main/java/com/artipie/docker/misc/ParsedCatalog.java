@@ -66,6 +66,7 @@ public final class ParsedCatalog implements Catalog {
      *
      * @return Repository names list.
      */
+    @Override
     public CompletionStage<List<RepoName>> repos() {
         return new PublisherAs(this.origin.json()).bytes().thenApply(
             bytes -> Json.createReader(new ByteArrayInputStream(bytes)).readObject()
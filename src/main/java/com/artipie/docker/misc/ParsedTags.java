@@ -78,6 +78,7 @@ public final class ParsedTags implements Tags {
      *
      * @return Tags list.
      */
+    @Override
     public CompletionStage<List<Tag>> tags() {
         return this.root().thenApply(root -> root.getJsonArray("tags")).thenApply(
             repos -> repos.getValuesAs(JsonString.class).stream()
@@ -0,0 +1,348 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.docker.misc;
+
+import com.artipie.docker.Digest;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.apache.commons.codec.binary.Hex;
+
+/**
+ * SHA-256 calculation which intermediate state can be exported and restored later.
+ * <p>
+ * Unlike {@link java.security.MessageDigest} this digest may be saved
+ * in the middle of the calculation, e.g. after each uploaded chunk of blob,
+ * and continued by another process without reading already hashed bytes again.
+ * See <a href="https://csrc.nist.gov/publications/detail/fips/180/4/final">FIPS 180-4</a>.
+ * </p>
+ *
+ * @since 0.13
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@SuppressWarnings({"PMD.AvoidUsingShortType", "PMD.AvoidArrayLoops"})
+public final class ResumableSha256 {
+
+    /**
+     * Block size in bytes.
+     */
+    private static final int BLOCK = 64;
+
+    /**
+     * Size of exported state without buffered bytes: 8 words of hash and length.
+     */
+    private static final int STATE = 40;
+
+    /**
+     * Initial hash values.
+     */
+    private static final int[] INITIAL = {
+        0x6a09e667, 0xbb67ae85, 0x3c6ef372, 0xa54ff53a,
+        0x510e527f, 0x9b05688c, 0x1f83d9ab, 0x5be0cd19,
+    };
+
+    /**
+     * Round constants.
+     */
+    private static final int[] ROUNDS = {
+        0x428a2f98, 0x71374491, 0xb5c0fbcf, 0xe9b5dba5, 0x3956c25b, 0x59f111f1, 0x923f82a4,
+        0xab1c5ed5, 0xd807aa98, 0x12835b01, 0x243185be, 0x550c7dc3, 0x72be5d74, 0x80deb1fe,
+        0x9bdc06a7, 0xc19bf174, 0xe49b69c1, 0xefbe4786, 0x0fc19dc6, 0x240ca1cc, 0x2de92c6f,
+        0x4a7484aa, 0x5cb0a9dc, 0x76f988da, 0x983e5152, 0xa831c66d, 0xb00327c8, 0xbf597fc7,
+        0xc6e00bf3, 0xd5a79147, 0x06ca6351, 0x14292967, 0x27b70a85, 0x2e1b2138, 0x4d2c6dfc,
+        0x53380d13, 0x650a7354, 0x766a0abb, 0x81c2c92e, 0x92722c85, 0xa2bfe8a1, 0xa81a664b,
+        0xc24b8b70, 0xc76c51a3, 0xd192e819, 0xd6990624, 0xf40e3585, 0x106aa070, 0x19a4c116,
+        0x1e376c08, 0x2748774c, 0x34b0bcb5, 0x391c0cb3, 0x4ed8aa4a, 0x5b9cca4f, 0x682e6ff3,
+        0x748f82ee, 0x78a5636f, 0x84c87814, 0x8cc70208, 0x90befffa, 0xa4506ceb, 0xbef9a3f7,
+        0xc67178f2,
+    };
+
+    /**
+     * Current hash value.
+     */
+    private final int[] hash;
+
+    /**
+     * Buffered bytes of not yet complete block.
+     */
+    private final byte[] block;
+
+    /**
+     * Message schedule, reused between blocks.
+     */
+    private final int[] words;
+
+    /**
+     * Number of bytes hashed so far.
+     */
+    private long count;
+
+    /**
+     * Ctor.
+     */
+    public ResumableSha256() {
+        this(Arrays.copyOf(ResumableSha256.INITIAL, ResumableSha256.INITIAL.length), 0L);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param exported State exported by {@link #state()}.
+     */
+    public ResumableSha256(final byte[] exported) {
+        this(ResumableSha256.words(exported), ResumableSha256.length(exported));
+        System.arraycopy(
+            exported, ResumableSha256.STATE, this.block, 0,
+            exported.length - ResumableSha256.STATE
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param hash Current hash value.
+     * @param count Number of bytes hashed so far.
+     */
+    private ResumableSha256(final int[] hash, final long count) {
+        this.hash = hash;
+        this.count = count;
+        this.block = new byte[ResumableSha256.BLOCK];
+        this.words = new int[ResumableSha256.ROUNDS.length];
+    }
+
+    /**
+     * Update digest with remaining bytes of buffer.
+     * Buffer position is not changed.
+     *
+     * @param buf Bytes buffer.
+     */
+    public void update(final ByteBuffer buf) {
+        if (buf.hasArray()) {
+            this.update(buf.array(), buf.arrayOffset() + buf.position(), buf.remaining());
+        } else {
+            final ByteBuffer src = buf.duplicate();
+            while (src.hasRemaining()) {
+                final int pos = this.buffered();
+                final int len = Math.min(ResumableSha256.BLOCK - pos, src.remaining());
+                src.get(this.block, pos, len);
+                this.buffer(pos, len);
+            }
+        }
+    }
+
+    /**
+     * Update digest with bytes from array.
+     *
+     * @param bytes Bytes array.
+     * @param offset Offset of first byte in array.
+     * @param len Number of bytes to hash.
+     */
+    public void update(final byte[] bytes, final int offset, final int len) {
+        int pos = offset;
+        final int end = offset + len;
+        final int buffered = this.buffered();
+        if (buffered > 0) {
+            final int head = Math.min(ResumableSha256.BLOCK - buffered, len);
+            System.arraycopy(bytes, pos, this.block, buffered, head);
+            this.buffer(buffered, head);
+            pos += head;
+        }
+        while (end - pos >= ResumableSha256.BLOCK) {
+            this.compress(bytes, pos);
+            this.count += ResumableSha256.BLOCK;
+            pos += ResumableSha256.BLOCK;
+        }
+        if (pos < end) {
+            System.arraycopy(bytes, pos, this.block, 0, end - pos);
+            this.buffer(0, end - pos);
+        }
+    }
+
+    /**
+     * Number of bytes hashed so far.
+     *
+     * @return Length of hashed data.
+     */
+    public long length() {
+        return this.count;
+    }
+
+    /**
+     * Export current state, so calculation may be continued later.
+     *
+     * @return State bytes.
+     */
+    public byte[] state() {
+        final ByteBuffer state = ByteBuffer.allocate(ResumableSha256.STATE + this.buffered());
+        for (final int word : this.hash) {
+            state.putInt(word);
+        }
+        state.putLong(this.count);
+        state.put(this.block, 0, this.buffered());
+        return state.array();
+    }
+
+    /**
+     * Calculate digest of all bytes hashed so far.
+     * This instance remains usable for further updates.
+     *
+     * @return Digest.
+     */
+    public Digest digest() {
+        final ResumableSha256 copy = new ResumableSha256(this.state());
+        final long bits = this.count * Byte.SIZE;
+        copy.update((byte) 0x80);
+        while (copy.buffered() != ResumableSha256.BLOCK - Long.BYTES) {
+            copy.update((byte) 0);
+        }
+        for (int shift = Long.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+            copy.update((byte) (bits >>> shift));
+        }
+        final ByteBuffer result = ByteBuffer.allocate(copy.hash.length * Integer.BYTES);
+        for (final int word : copy.hash) {
+            result.putInt(word);
+        }
+        return new Digest.Sha256(Hex.encodeHexString(result.array()));
+    }
+
+    /**
+     * Update digest with single byte.
+     *
+     * @param value Byte.
+     */
+    private void update(final byte value) {
+        final int pos = this.buffered();
+        this.block[pos] = value;
+        this.buffer(pos, 1);
+    }
+
+    /**
+     * Account bytes copied to incomplete block and compress the block once it is full.
+     *
+     * @param pos Position in block bytes were copied to.
+     * @param len Number of bytes copied.
+     */
+    private void buffer(final int pos, final int len) {
+        this.count += len;
+        if (pos + len == ResumableSha256.BLOCK) {
+            this.compress(this.block, 0);
+        }
+    }
+
+    /**
+     * Number of bytes buffered in incomplete block.
+     *
+     * @return Number of buffered bytes.
+     */
+    private int buffered() {
+        return (int) (this.count % ResumableSha256.BLOCK);
+    }
+
+    /**
+     * Process single 64-byte block.
+     *
+     * @param bytes Bytes array.
+     * @param offset Block offset in array.
+     * @checkstyle ExecutableStatementCountCheck (100 lines)
+     */
+    @SuppressWarnings({"PMD.ShortVariable", "PMD.OneDeclarationPerLine"})
+    private void compress(final byte[] bytes, final int offset) {
+        final int[] w = this.words;
+        for (int idx = 0; idx < 16; idx += 1) {
+            final int pos = offset + idx * 4;
+            w[idx] = (bytes[pos] & 0xff) << 24 | (bytes[pos + 1] & 0xff) << 16
+                | (bytes[pos + 2] & 0xff) << 8 | bytes[pos + 3] & 0xff;
+        }
+        for (int idx = 16; idx < w.length; idx += 1) {
+            final int prev = w[idx - 15];
+            final int last = w[idx - 2];
+            w[idx] = w[idx - 16] + w[idx - 7]
+                + (Integer.rotateRight(prev, 7) ^ Integer.rotateRight(prev, 18) ^ prev >>> 3)
+                + (Integer.rotateRight(last, 17) ^ Integer.rotateRight(last, 19) ^ last >>> 10);
+        }
+        int a = this.hash[0];
+        int b = this.hash[1];
+        int c = this.hash[2];
+        int d = this.hash[3];
+        int e = this.hash[4];
+        int f = this.hash[5];
+        int g = this.hash[6];
+        int h = this.hash[7];
+        for (int idx = 0; idx < w.length; idx += 1) {
+            final int first = h + ResumableSha256.ROUNDS[idx] + w[idx]
+                + (Integer.rotateRight(e, 6) ^ Integer.rotateRight(e, 11)
+                ^ Integer.rotateRight(e, 25))
+                + (e & f ^ ~e & g);
+            final int second = (Integer.rotateRight(a, 2) ^ Integer.rotateRight(a, 13)
+                ^ Integer.rotateRight(a, 22))
+                + (a & b ^ a & c ^ b & c);
+            h = g;
+            g = f;
+            f = e;
+            e = d + first;
+            d = c;
+            c = b;
+            b = a;
+            a = first + second;
+        }
+        this.hash[0] += a;
+        this.hash[1] += b;
+        this.hash[2] += c;
+        this.hash[3] += d;
+        this.hash[4] += e;
+        this.hash[5] += f;
+        this.hash[6] += g;
+        this.hash[7] += h;
+    }
+
+    /**
+     * Read hash words from exported state.
+     *
+     * @param exported Exported state.
+     * @return Hash words.
+     */
+    private static int[] words(final byte[] exported) {
+        if (exported.length < ResumableSha256.STATE
+            || exported.length >= ResumableSha256.STATE + ResumableSha256.BLOCK) {
+            throw new IllegalArgumentException(
+                String.format("Invalid SHA-256 state size: %d", exported.length)
+            );
+        }
+        final ByteBuffer buf = ByteBuffer.wrap(exported);
+        final int[] hash = new int[ResumableSha256.INITIAL.length];
+        for (int idx = 0; idx < hash.length; idx += 1) {
+            hash[idx] = buf.getInt();
+        }
+        return hash;
+    }
+
+    /**
+     * Read hashed data length from exported state.
+     *
+     * @param exported Exported state.
+     * @return Number of hashed bytes.
+     */
+    private static long length(final byte[] exported) {
+        return ByteBuffer.wrap(exported).getLong(ResumableSha256.STATE - Long.BYTES);
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.docker.misc;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+
+/**
+ * Union of sorted names pages.
+ * Pages are merged name by name, so at most `limit` names are taken
+ * from all pages in total and duplicates are skipped as they are met.
+ *
+ * @since 0.13
+ */
+final class SortedUnion {
+
+    /**
+     * Names pages.
+     */
+    private final Collection<List<String>> pages;
+
+    /**
+     * From which name to start, exclusive.
+     */
+    private final Optional<String> from;
+
+    /**
+     * Maximum number of names returned.
+     */
+    private final int limit;
+
+    /**
+     * Ctor.
+     *
+     * @param pages Names pages.
+     * @param from From which name to start, exclusive.
+     * @param limit Maximum number of names returned.
+     */
+    SortedUnion(
+        final Collection<List<String>> pages,
+        final Optional<String> from,
+        final int limit
+    ) {
+        this.pages = pages;
+        this.from = from;
+        this.limit = limit;
+    }
+
+    /**
+     * Merge pages.
+     *
+     * @return Ordered distinct names, not more then limit.
+     */
+    public List<String> value() {
+        final PriorityQueue<Cursor> heads = new PriorityQueue<>(
+            Math.max(1, this.pages.size()),
+            Comparator.comparing(Cursor::head)
+        );
+        for (final List<String> page : this.pages) {
+            final List<String> sorted = new ArrayList<>(page);
+            Collections.sort(sorted);
+            final Cursor cursor = new Cursor(sorted.iterator());
+            if (cursor.advance(this.from)) {
+                heads.add(cursor);
+            }
+        }
+        final List<String> result = new ArrayList<>();
+        while (!heads.isEmpty() && result.size() < this.limit) {
+            final Cursor cursor = heads.poll();
+            final String name = cursor.head();
+            if (result.isEmpty() || !result.get(result.size() - 1).equals(name)) {
+                result.add(name);
+            }
+            if (cursor.advance(Optional.of(name))) {
+                heads.add(cursor);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Position in sorted page.
+     *
+     * @since 0.13
+     */
+    private static final class Cursor {
+
+        /**
+         * Remaining names of page.
+         */
+        private final Iterator<String> names;
+
+        /**
+         * Current name.
+         */
+        private String current;
+
+        /**
+         * Ctor.
+         *
+         * @param names Remaining names of page.
+         */
+        Cursor(final Iterator<String> names) {
+            this.names = names;
+        }
+
+        /**
+         * Current name.
+         *
+         * @return Name.
+         */
+        String head() {
+            return this.current;
+        }
+
+        /**
+         * Move to next name greater then given one.
+         *
+         * @param after Name to skip to, exclusive.
+         * @return True if cursor points to a name, false if page is over.
+         */
+        boolean advance(final Optional<String> after) {
+            boolean found = false;
+            while (!found && this.names.hasNext()) {
+                final String next = this.names.next();
+                found = after.map(name -> next.compareTo(name) > 0).orElse(true);
+                if (found) {
+                    this.current = next;
+                }
+            }
+            return found;
+        }
+    }
+}
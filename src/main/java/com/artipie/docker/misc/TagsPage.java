@@ -28,9 +28,12 @@ import com.artipie.docker.RepoName;
 import com.artipie.docker.Tag;
 import com.artipie.docker.Tags;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
-import javax.json.Json;
-import javax.json.JsonArrayBuilder;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
 
 /**
  * {@link Tags} that is a page of given tags list.
@@ -82,21 +85,37 @@ public final class TagsPage implements Tags {
 
     @Override
     public Content json() {
-        final JsonArrayBuilder builder = Json.createArrayBuilder();
-        this.tags.stream()
+        return new Content.From(
+            new NamesJsonFlowable(
+                Collections.singletonMap("name", this.repo.value()), "tags", this.page()
+            )
+        );
+    }
+
+    @Override
+    public CompletionStage<List<Tag>> tags() {
+        return CompletableFuture.completedFuture(
+            this.page().stream().map(Tag.Valid::new).collect(Collectors.toList())
+        );
+    }
+
+    @Override
+    public Optional<Tag> next() {
+        return new PageNext(this.page(), this.limit).value().map(Tag.Valid::new);
+    }
+
+    /**
+     * Select page of tags.
+     *
+     * @return Ordered tags page.
+     */
+    private List<String> page() {
+        return this.tags.stream()
             .map(Tag::value)
             .filter(name -> this.from.map(last -> name.compareTo(last.value()) > 0).orElse(true))
             .sorted()
             .distinct()
             .limit(this.limit)
-            .forEach(builder::add);
-        return new Content.From(
-            Json.createObjectBuilder()
-                .add("name", this.repo.value())
-                .add("tags", builder)
-                .build()
-                .toString()
-                .getBytes()
-        );
+            .collect(Collectors.toList());
     }
 }
@@ -0,0 +1,75 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.docker.proxy;
+
+import com.artipie.http.Headers;
+import com.artipie.http.rq.RqHeaders;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Value of `last` query parameter of remote `Link` header with `rel="next"`.
+ * Value is URL-decoded, since repository names may contain encoded slashes.
+ *
+ * @since 0.13
+ */
+final class NextLast {
+
+    /**
+     * Link header with next page reference.
+     */
+    private static final Pattern NEXT = Pattern.compile(
+        "<[^>]*[?&]last=(?<last>[^&>]+)[^>]*>\\s*;\\s*rel=\"?next\"?"
+    );
+
+    /**
+     * Remote response headers.
+     */
+    private final Headers headers;
+
+    /**
+     * Ctor.
+     *
+     * @param headers Remote response headers.
+     */
+    NextLast(final Headers headers) {
+        this.headers = headers;
+    }
+
+    /**
+     * Read last element of remote page.
+     *
+     * @return Last element, empty if remote has no next page.
+     */
+    public Optional<String> value() {
+        return new RqHeaders(this.headers, "Link").stream()
+            .map(NextLast.NEXT::matcher)
+            .filter(Matcher::find)
+            .map(matcher -> URLDecoder.decode(matcher.group("last"), StandardCharsets.UTF_8))
+            .findFirst();
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.docker.proxy;
+
+import com.artipie.asto.Content;
+import com.artipie.docker.Catalog;
+import com.artipie.docker.RepoName;
+import java.util.Optional;
+
+/**
+ * Catalog page received from remote repository.
+ *
+ * @since 0.13
+ */
+final class ProxyCatalog implements Catalog {
+
+    /**
+     * Catalog JSON bytes as received.
+     */
+    private final byte[] bytes;
+
+    /**
+     * Last repository name of the page if remote has next page.
+     */
+    private final Optional<String> last;
+
+    /**
+     * Ctor.
+     *
+     * @param bytes Catalog JSON bytes as received.
+     * @param last Last repository name of the page if remote has next page.
+     */
+    ProxyCatalog(final byte[] bytes, final Optional<String> last) {
+        this.bytes = bytes.clone();
+        this.last = last;
+    }
+
+    @Override
+    public Content json() {
+        return new Content.From(this.bytes);
+    }
+
+    @Override
+    public Optional<RepoName> next() {
+        return this.last.map(RepoName.Simple::new);
+    }
+}
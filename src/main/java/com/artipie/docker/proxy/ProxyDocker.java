@@ -30,6 +30,7 @@ import com.artipie.docker.Catalog;
 import com.artipie.docker.Docker;
 import com.artipie.docker.Repo;
 import com.artipie.docker.RepoName;
+import com.artipie.docker.manifest.ManifestBytes;
 import com.artipie.http.Headers;
 import com.artipie.http.Slice;
 import com.artipie.http.rq.RequestLine;
@@ -50,18 +51,34 @@ public final class ProxyDocker implements Docker {
      */
     private final Slice remote;
 
+    /**
+     * Maximum manifest size in bytes.
+     */
+    private final long maxsize;
+
     /**
      * Ctor.
      *
      * @param remote Remote repository.
      */
     public ProxyDocker(final Slice remote) {
+        this(remote, ManifestBytes.LIMIT);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param remote Remote repository.
+     * @param maxsize Maximum manifest size in bytes.
+     */
+    public ProxyDocker(final Slice remote, final long maxsize) {
         this.remote = remote;
+        this.maxsize = maxsize;
     }
 
     @Override
     public Repo repo(final RepoName name) {
-        return new ProxyRepo(this.remote, name);
+        return new ProxyRepo(this.remote, name, this.maxsize);
     }
 
     @Override
@@ -76,7 +93,7 @@ public final class ProxyDocker implements Docker {
                 final CompletionStage<Catalog> result;
                 if (status == RsStatus.OK) {
                     result = new PublisherAs(body).bytes().thenApply(
-                        bytes -> () -> new Content.From(bytes)
+                        bytes -> new ProxyCatalog(bytes, new NextLast(headers).value())
                     );
                 } else {
                     result = new FailedCompletionStage<>(
@@ -35,6 +35,7 @@ import com.artipie.docker.Tags;
 import com.artipie.docker.http.DigestHeader;
 import com.artipie.docker.manifest.JsonManifest;
 import com.artipie.docker.manifest.Manifest;
+import com.artipie.docker.manifest.ManifestBytes;
 import com.artipie.docker.ref.ManifestRef;
 import com.artipie.http.Headers;
 import com.artipie.http.Slice;
@@ -63,6 +64,11 @@ public final class ProxyManifests implements Manifests {
      */
     private final RepoName name;
 
+    /**
+     * Maximum manifest size in bytes.
+     */
+    private final long maxsize;
+
     /**
      * Ctor.
      *
@@ -70,8 +76,20 @@ public final class ProxyManifests implements Manifests {
      * @param name Repository name.
      */
     public ProxyManifests(final Slice remote, final RepoName name) {
+        this(remote, name, ManifestBytes.LIMIT);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param remote Remote repository.
+     * @param name Repository name.
+     * @param maxsize Maximum manifest size in bytes.
+     */
+    public ProxyManifests(final Slice remote, final RepoName name, final long maxsize) {
         this.remote = remote;
         this.name = name;
+        this.maxsize = maxsize;
     }
 
     @Override
@@ -91,9 +109,8 @@ public final class ProxyManifests implements Manifests {
                 final CompletionStage<Optional<Manifest>> result;
                 if (status == RsStatus.OK) {
                     final Digest digest = new DigestHeader(headers).value();
-                    result = new PublisherAs(body).bytes().thenApply(
-                        bytes -> Optional.of(new JsonManifest(digest, bytes))
-                    );
+                    result = new ManifestBytes(new Content.From(body), this.maxsize).value()
+                        .thenApply(bytes -> Optional.of(new JsonManifest(digest, bytes)));
                 } else if (status == RsStatus.NOT_FOUND) {
                     result = CompletableFuture.completedFuture(Optional.empty());
                 } else {
@@ -119,7 +136,7 @@ public final class ProxyManifests implements Manifests {
                 final CompletionStage<Tags> result;
                 if (status == RsStatus.OK) {
                     result = new PublisherAs(body).bytes().thenApply(
-                        bytes -> () -> new Content.From(bytes)
+                        bytes -> new ProxyTags(bytes, new NextLast(headers).value())
                     );
                 } else {
                     result = unexpected(status);
@@ -28,6 +28,7 @@ import com.artipie.docker.Manifests;
 import com.artipie.docker.Repo;
 import com.artipie.docker.RepoName;
 import com.artipie.docker.Uploads;
+import com.artipie.docker.manifest.ManifestBytes;
 import com.artipie.http.Slice;
 
 /**
@@ -47,6 +48,11 @@ public final class ProxyRepo implements Repo {
      */
     private final RepoName name;
 
+    /**
+     * Maximum manifest size in bytes.
+     */
+    private final long maxsize;
+
     /**
      * Ctor.
      *
@@ -54,8 +60,20 @@ public final class ProxyRepo implements Repo {
      * @param name Repository name.
      */
     public ProxyRepo(final Slice remote, final RepoName name) {
+        this(remote, name, ManifestBytes.LIMIT);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param remote Remote repository.
+     * @param name Repository name.
+     * @param maxsize Maximum manifest size in bytes.
+     */
+    public ProxyRepo(final Slice remote, final RepoName name, final long maxsize) {
         this.remote = remote;
         this.name = name;
+        this.maxsize = maxsize;
     }
 
     @Override
@@ -65,7 +83,7 @@ public final class ProxyRepo implements Repo {
 
     @Override
     public Manifests manifests() {
-        return new ProxyManifests(this.remote, this.name);
+        return new ProxyManifests(this.remote, this.name, this.maxsize);
     }
 
     @Override
@@ -0,0 +1,201 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.docker.asto;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.ext.PublisherAs;
+import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.docker.RepoName;
+import io.reactivex.Flowable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link AbandonedUploads}.
+ *
+ * @since 0.13
+ */
+final class AbandonedUploadsTest {
+
+    /**
+     * Storage.
+     */
+    private Storage storage;
+
+    /**
+     * Garbage collector being tested.
+     */
+    private AbandonedUploads uploads;
+
+    /**
+     * Active uploads registry.
+     */
+    private UploadSessions sessions;
+
+    @BeforeEach
+    void setUp() {
+        this.storage = new InMemoryStorage();
+        this.sessions = new UploadSessions();
+        this.uploads = new AbandonedUploads(
+            this.storage, new DefaultLayout(), Duration.ofHours(1), 2, this.sessions
+        );
+    }
+
+    @Test
+    void shouldRemoveAbandonedUpload() {
+        final AstoUpload upload = this.upload("abandoned");
+        this.storage.save(
+            new Key.From(upload.root(), "started"),
+            new Content.From(
+                String.valueOf(Instant.now().minus(Duration.ofDays(1)).toEpochMilli())
+                    .getBytes(StandardCharsets.US_ASCII)
+            )
+        ).join();
+        final long size = this.size(upload.root());
+        MatcherAssert.assertThat(
+            "Reports reclaimed bytes",
+            this.uploads.sweep().toCompletableFuture().join(),
+            new IsEqual<>(size)
+        );
+        MatcherAssert.assertThat(
+            "Removes upload data",
+            this.storage.list(upload.root()).join().isEmpty(),
+            new IsEqual<>(true)
+        );
+        MatcherAssert.assertThat(
+            "Evicts upload session",
+            this.sessions.active(upload.root()),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void shouldAgeMarkerWithoutTimeFromFirstSweep() {
+        final AstoUpload upload = this.upload("legacy");
+        final Key marker = new Key.From(upload.root(), "started");
+        this.storage.save(marker, new Content.From(new byte[0])).join();
+        MatcherAssert.assertThat(
+            "Reports nothing reclaimed",
+            this.uploads.sweep().toCompletableFuture().join(),
+            new IsEqual<>(0L)
+        );
+        MatcherAssert.assertThat(
+            "Keeps upload data",
+            this.storage.list(upload.root()).join().isEmpty(),
+            new IsEqual<>(false)
+        );
+        MatcherAssert.assertThat(
+            "Stamps marker with time it was seen",
+            new PublisherAs(this.storage.value(marker).join()).asciiString()
+                .toCompletableFuture().join().isEmpty(),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void shouldRemoveAbandonedUploadOfRepositoryWithoutManifests() {
+        final AstoUpload upload = new AstoUpload(
+            this.storage,
+            new DefaultLayout(),
+            new RepoName.Valid("other"),
+            UUID.randomUUID().toString(),
+            this.sessions
+        );
+        upload.start().toCompletableFuture().join();
+        this.storage.save(
+            new Key.From(upload.root(), "started"),
+            new Content.From(
+                String.valueOf(Instant.now().minus(Duration.ofDays(1)).toEpochMilli())
+                    .getBytes(StandardCharsets.US_ASCII)
+            )
+        ).join();
+        final long size = this.size(upload.root());
+        MatcherAssert.assertThat(
+            "Reports reclaimed bytes",
+            this.uploads.sweep().toCompletableFuture().join(),
+            new IsEqual<>(size)
+        );
+        MatcherAssert.assertThat(
+            "Removes upload data",
+            this.storage.list(upload.root()).join().isEmpty(),
+            new IsEqual<>(true)
+        );
+    }
+
+    @Test
+    void shouldKeepActiveUpload() {
+        final AstoUpload upload = this.upload("active");
+        MatcherAssert.assertThat(
+            "Reports nothing reclaimed",
+            this.uploads.sweep().toCompletableFuture().join(),
+            new IsEqual<>(0L)
+        );
+        MatcherAssert.assertThat(
+            "Keeps upload data",
+            this.storage.list(upload.root()).join().isEmpty(),
+            new IsEqual<>(false)
+        );
+    }
+
+    /**
+     * Start upload and append some data.
+     *
+     * @param data Data to append.
+     * @return Upload.
+     */
+    private AstoUpload upload(final String data) {
+        final AstoUpload upload = new AstoUpload(
+            this.storage,
+            new DefaultLayout(),
+            new RepoName.Valid("test"),
+            UUID.randomUUID().toString(),
+            this.sessions
+        );
+        upload.start().toCompletableFuture().join();
+        upload.append(Flowable.just(ByteBuffer.wrap(data.getBytes())))
+            .toCompletableFuture().join();
+        return upload;
+    }
+
+    /**
+     * Calculate total size of data stored under the key.
+     *
+     * @param root Root key.
+     * @return Size in bytes.
+     */
+    private long size(final Key root) {
+        return this.storage.list(root).join().stream()
+            .mapToLong(key -> this.storage.size(key).join())
+            .sum();
+    }
+}
@@ -29,7 +29,10 @@ import com.artipie.asto.Storage;
 import com.artipie.asto.memory.InMemoryStorage;
 import com.artipie.docker.Digest;
 import com.artipie.docker.RepoName;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
@@ -62,6 +65,89 @@ final class AstoBlobsTest {
         MatcherAssert.assertThat(storage.saves, new IsEqual<>(1));
     }
 
+    @Test
+    void shouldCacheBlobMetadata() {
+        final byte[] bytes = new byte[]{0x00, 0x01, 0x02, 0x03};
+        final FakeStorage storage = new FakeStorage();
+        final AstoBlobs blobs = new AstoBlobs(
+            storage, new DefaultLayout(), new RepoName.Simple("any"),
+            new BlobsCache(10, Duration.ofMinutes(1)), new BlobsFilter()
+        );
+        final Digest digest = blobs.put(new TrustedBlobSource(bytes))
+            .toCompletableFuture().join().digest();
+        for (int idx = 0; idx < 2; idx += 1) {
+            blobs.blob(digest).toCompletableFuture().join().get()
+                .size().toCompletableFuture().join();
+        }
+        MatcherAssert.assertThat(
+            "Checks existence only once on put",
+            storage.checks,
+            new IsEqual<>(1)
+        );
+        MatcherAssert.assertThat(
+            "Reads size only once",
+            storage.sizes,
+            new IsEqual<>(1)
+        );
+    }
+
+    @Test
+    void shouldCacheAbsentBlobUntilPut() {
+        final byte[] bytes = new byte[]{0x04, 0x05};
+        final FakeStorage storage = new FakeStorage();
+        final AstoBlobs blobs = new AstoBlobs(
+            storage, new DefaultLayout(), new RepoName.Simple("any"),
+            new BlobsCache(10, Duration.ofMinutes(1)), new BlobsFilter()
+        );
+        final Digest digest = new Digest.Sha256(bytes);
+        blobs.blob(digest).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            "Blob is absent",
+            blobs.blob(digest).toCompletableFuture().join().isPresent(),
+            new IsEqual<>(false)
+        );
+        MatcherAssert.assertThat(
+            "Checks absent blob existence once",
+            storage.checks,
+            new IsEqual<>(1)
+        );
+        blobs.put(new TrustedBlobSource(bytes)).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            "Blob is present after put",
+            blobs.blob(digest).toCompletableFuture().join().isPresent(),
+            new IsEqual<>(true)
+        );
+    }
+
+    @Test
+    void shouldFindMissingBlob() {
+        final AstoBlobs blobs = new AstoBlobs(
+            new InMemoryStorage(), new DefaultLayout(), new RepoName.Simple("any")
+        );
+        final Digest present = blobs.put(new TrustedBlobSource("present".getBytes()))
+            .toCompletableFuture().join().digest();
+        final Digest absent = new Digest.Sha256("absent".getBytes());
+        MatcherAssert.assertThat(
+            blobs.missing(Arrays.asList(present, absent)).toCompletableFuture().join(),
+            new IsEqual<>(Optional.of(absent))
+        );
+    }
+
+    @Test
+    void shouldFindNoMissingBlobs() {
+        final AstoBlobs blobs = new AstoBlobs(
+            new InMemoryStorage(), new DefaultLayout(), new RepoName.Simple("any")
+        );
+        final Digest first = blobs.put(new TrustedBlobSource("first".getBytes()))
+            .toCompletableFuture().join().digest();
+        final Digest second = blobs.put(new TrustedBlobSource("second".getBytes()))
+            .toCompletableFuture().join().digest();
+        MatcherAssert.assertThat(
+            blobs.missing(Arrays.asList(first, second)).toCompletableFuture().join(),
+            new IsEqual<>(Optional.empty())
+        );
+    }
+
     /**
      * Fake storage that stores everything in memory and counts save operations.
      *
@@ -79,12 +165,23 @@ final class AstoBlobsTest {
          */
         private int saves;
 
+        /**
+         * Exists operations counter.
+         */
+        private int checks;
+
+        /**
+         * Size operations counter.
+         */
+        private int sizes;
+
         private FakeStorage() {
             this.origin = new InMemoryStorage();
         }
 
         @Override
         public CompletableFuture<Boolean> exists(final Key key) {
+            this.checks += 1;
             return this.origin.exists(key);
         }
 
@@ -106,6 +203,7 @@ final class AstoBlobsTest {
 
         @Override
         public CompletableFuture<Long> size(final Key key) {
+            this.sizes += 1;
             return this.origin.size(key);
         }
 
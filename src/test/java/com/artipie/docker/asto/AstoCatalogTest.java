@@ -23,20 +23,18 @@
  */
 package com.artipie.docker.asto;
 
-import com.artipie.asto.Key;
 import com.artipie.asto.ext.PublisherAs;
 import com.artipie.docker.RepoName;
 import com.google.common.base.Splitter;
 import java.io.StringReader;
-import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import javax.json.Json;
 import javax.json.JsonReader;
 import org.hamcrest.MatcherAssert;
-import org.junit.jupiter.api.BeforeEach;
+import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import wtf.g4s8.hamcrest.json.JsonContains;
@@ -50,35 +48,16 @@ import wtf.g4s8.hamcrest.json.JsonValueIs;
  */
 final class AstoCatalogTest {
 
-    /**
-     * Tag keys.
-     */
-    private Collection<Key> keys;
-
-    @BeforeEach
-    void setUp() {
-        this.keys = Stream.of("foo/my-alpine", "foo/test", "foo/bar", "foo/busybox")
-            .map(Key.From::new)
-            .collect(Collectors.toList());
-    }
-
     @ParameterizedTest
     @CsvSource({
-        ",,bar;busybox;my-alpine;test",
-        "busybox,,my-alpine;test",
-        "xyz,,''",
-        ",2,bar;busybox",
-        "bar,2,busybox;my-alpine"
+        "bar;busybox;my-alpine;test",
+        "busybox",
+        "''"
     })
-    void shouldSupportPaging(final String from, final Integer limit, final String result) {
+    void shouldWritePage(final String names) {
         MatcherAssert.assertThat(
             new PublisherAs(
-                new AstoCatalog(
-                    new Key.From("foo"),
-                    this.keys,
-                    Optional.ofNullable(from).map(RepoName.Simple::new),
-                    Optional.ofNullable(limit).orElse(Integer.MAX_VALUE)
-                ).json()
+                new AstoCatalog(AstoCatalogTest.page(names), Integer.MAX_VALUE).json()
             ).asciiString().thenApply(
                 str -> {
                     try (JsonReader reader = Json.createReader(new StringReader(str))) {
@@ -89,12 +68,39 @@ final class AstoCatalogTest {
             new JsonHas(
                 "repositories",
                 new JsonContains(
-                    StreamSupport.stream(
-                        Splitter.on(";").omitEmptyStrings().split(result).spliterator(),
-                        false
-                    ).map(JsonValueIs::new).collect(Collectors.toList())
+                    AstoCatalogTest.page(names).stream()
+                        .map(JsonValueIs::new)
+                        .collect(Collectors.toList())
                 )
             )
         );
     }
+
+    @ParameterizedTest
+    @CsvSource({
+        "bar;busybox,2,busybox",
+        "bar,2,''",
+        "'',2,''"
+    })
+    void shouldPointToNextPageWhenFull(
+        final String names, final int limit, final String next
+    ) {
+        MatcherAssert.assertThat(
+            new AstoCatalog(AstoCatalogTest.page(names), limit).next().map(RepoName::value),
+            new IsEqual<>(Optional.of(next).filter(name -> !name.isEmpty()))
+        );
+    }
+
+    /**
+     * Split names page.
+     *
+     * @param names Names separated by semicolon.
+     * @return Names page.
+     */
+    private static List<String> page(final String names) {
+        return StreamSupport.stream(
+            Splitter.on(";").omitEmptyStrings().split(names).spliterator(),
+            false
+        ).collect(Collectors.toList());
+    }
 }
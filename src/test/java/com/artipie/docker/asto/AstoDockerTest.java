@@ -29,9 +29,14 @@ import com.artipie.asto.Key;
 import com.artipie.asto.Storage;
 import com.artipie.asto.ext.PublisherAs;
 import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.docker.Blob;
 import com.artipie.docker.Catalog;
+import com.artipie.docker.Repo;
 import com.artipie.docker.RepoName;
+import com.artipie.docker.Tag;
+import com.artipie.docker.ref.ManifestRef;
 import java.util.Optional;
+import javax.json.Json;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.hamcrest.core.IsEqual;
@@ -40,6 +45,7 @@ import org.junit.jupiter.api.Test;
 /**
  * Test case for {@link AstoDocker}.
  * @since 0.1
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
  */
 final class AstoDockerTest {
     @Test
@@ -54,19 +60,50 @@ final class AstoDockerTest {
     void shouldReadCatalogs() {
         final Storage storage = new InMemoryStorage();
         storage.save(
-            new Key.From("repositories/my-alpine/something"),
+            new Key.From("repositories/my-alpine/_manifests/tags/1/current/link"),
             new Content.From("1".getBytes())
         ).toCompletableFuture().join();
         storage.save(
-            new Key.From("repositories/test/foo/bar"),
+            new Key.From("repositories/test/foo/_manifests/tags/2/current/link"),
             new Content.From("2".getBytes())
         ).toCompletableFuture().join();
+        storage.save(
+            new Key.From("repositories/uploading/_uploads/123/started"),
+            new Content.From("3".getBytes())
+        ).toCompletableFuture().join();
         final Catalog catalog = new AstoDocker(storage)
             .catalog(Optional.empty(), Integer.MAX_VALUE)
             .toCompletableFuture().join();
         MatcherAssert.assertThat(
             new PublisherAs(catalog.json()).asciiString().toCompletableFuture().join(),
-            new IsEqual<>("{\"repositories\":[\"my-alpine\",\"test\"]}")
+            new IsEqual<>("{\"repositories\":[\"my-alpine\",\"test/foo\"]}")
+        );
+    }
+
+    @Test
+    void shouldAddRepositoryToCatalogOnManifestPush() {
+        final AstoDocker docker = new AstoDocker(new InMemoryStorage());
+        final Repo repo = docker.repo(new RepoName.Simple("my/repo"));
+        final Blob config = repo.layers().put(new TrustedBlobSource("config".getBytes()))
+            .toCompletableFuture().join();
+        repo.manifests().put(
+            new ManifestRef.FromTag(new Tag.Valid("1")),
+            new Content.From(
+                Json.createObjectBuilder()
+                    .add(
+                        "config",
+                        Json.createObjectBuilder().add("digest", config.digest().string())
+                    )
+                    .add("layers", Json.createArrayBuilder())
+                    .build().toString().getBytes()
+            )
+        ).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            new PublisherAs(
+                docker.catalog(Optional.empty(), Integer.MAX_VALUE)
+                    .toCompletableFuture().join().json()
+            ).asciiString().toCompletableFuture().join(),
+            new IsEqual<>("{\"repositories\":[\"my/repo\"]}")
         );
     }
 }
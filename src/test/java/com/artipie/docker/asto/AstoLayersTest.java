@@ -133,6 +133,32 @@ final class AstoLayersTest {
         );
     }
 
+    @Test
+    void shouldMountExistingBlobWithoutReadingContent() {
+        final byte[] data = "mounted".getBytes();
+        final Blob existing = this.blobs.put(new TrustedBlobSource(data))
+            .toCompletableFuture().join();
+        final Blob blob = this.layers.mount(
+            new Blob() {
+                @Override
+                public Digest digest() {
+                    return existing.digest();
+                }
+
+                @Override
+                public CompletionStage<Long> size() {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public CompletionStage<Content> content() {
+                    throw new UnsupportedOperationException();
+                }
+            }
+        ).toCompletableFuture().join();
+        MatcherAssert.assertThat(bytes(blob), new IsEqual<>(data));
+    }
+
     private static byte[] bytes(final Blob blob) {
         return new PublisherAs(blob.content().toCompletableFuture().join())
             .bytes()
@@ -25,6 +25,7 @@
 package com.artipie.docker.asto;
 
 import com.artipie.asto.Content;
+import com.artipie.asto.Key;
 import com.artipie.asto.Storage;
 import com.artipie.asto.ext.PublisherAs;
 import com.artipie.docker.Blob;
@@ -34,6 +35,7 @@ import com.artipie.docker.Tag;
 import com.artipie.docker.Tags;
 import com.artipie.docker.error.InvalidManifestException;
 import com.artipie.docker.manifest.Manifest;
+import com.artipie.docker.manifest.ManifestMeta;
 import com.artipie.docker.ref.ManifestRef;
 import java.util.Optional;
 import java.util.concurrent.CompletionException;
@@ -58,6 +60,11 @@ import org.junit.jupiter.api.Timeout;
 @SuppressWarnings("PMD.AvoidDuplicateLiterals")
 final class AstoManifestsTest {
 
+    /**
+     * Storage used in tests.
+     */
+    private Storage storage;
+
     /**
      * Blobs used in tests.
      */
@@ -70,11 +77,11 @@ final class AstoManifestsTest {
 
     @BeforeEach
     void setUp() {
-        final Storage storage = new ExampleStorage();
+        this.storage = new ExampleStorage();
         final Layout layout = new DefaultLayout();
         final RepoName name = new RepoName.Simple("my-alpine");
-        this.blobs = new AstoBlobs(storage, layout, name);
-        this.manifests = new AstoManifests(storage, this.blobs, layout, name);
+        this.blobs = new AstoBlobs(this.storage, layout, name);
+        this.manifests = new AstoManifests(this.storage, this.blobs, layout, name);
     }
 
     @Test
@@ -130,6 +137,110 @@ final class AstoManifestsTest {
         );
     }
 
+    @Test
+    @Timeout(5)
+    void shouldReadMetaOfAddedManifest() {
+        final Blob config = this.blobs.put(new TrustedBlobSource("meta config".getBytes()))
+            .toCompletableFuture().join();
+        final byte[] data = Json.createObjectBuilder()
+            .add("mediaType", "application/vnd.docker.distribution.manifest.v2+json")
+            .add(
+                "config",
+                Json.createObjectBuilder().add("digest", config.digest().string())
+            )
+            .add("layers", Json.createArrayBuilder())
+            .build().toString().getBytes();
+        final ManifestRef ref = new ManifestRef.FromTag(new Tag.Valid("meta"));
+        final Manifest manifest = this.manifests.put(ref, new Content.From(data))
+            .toCompletableFuture().join();
+        final ManifestMeta meta = this.manifests.meta(ref)
+            .toCompletableFuture().join().get();
+        MatcherAssert.assertThat(
+            "Has manifest digest",
+            meta.digest().string(),
+            new IsEqual<>(manifest.digest().string())
+        );
+        MatcherAssert.assertThat(
+            "Has manifest media type",
+            meta.mediaType(),
+            new IsEqual<>("application/vnd.docker.distribution.manifest.v2+json")
+        );
+        MatcherAssert.assertThat(
+            "Has manifest size",
+            meta.size(),
+            new IsEqual<>((long) data.length)
+        );
+    }
+
+    @Test
+    @Timeout(5)
+    void shouldReadMetaOfManifestWithoutSavedMeta() {
+        final ManifestMeta meta = this.manifests.meta(
+            new ManifestRef.FromTag(new Tag.Valid("1"))
+        ).toCompletableFuture().join().get();
+        MatcherAssert.assertThat(meta.size(), new IsEqual<>(528L));
+    }
+
+    @Test
+    @Timeout(5)
+    void shouldReadAddedManifestList() {
+        final Blob child = this.blobs.put(new TrustedBlobSource("child".getBytes()))
+            .toCompletableFuture().join();
+        final byte[] data = Json.createObjectBuilder()
+            .add("mediaType", "application/vnd.docker.distribution.manifest.list.v2+json")
+            .add(
+                "manifests",
+                Json.createArrayBuilder().add(
+                    Json.createObjectBuilder().add("digest", child.digest().string())
+                )
+            )
+            .build().toString().getBytes();
+        final ManifestRef ref = new ManifestRef.FromTag(new Tag.Valid("list"));
+        this.manifests.put(ref, new Content.From(data)).toCompletableFuture().join();
+        MatcherAssert.assertThat(this.manifest(ref), new IsEqual<>(data));
+    }
+
+    @Test
+    @Timeout(5)
+    void shouldFailPutManifestListWithMissingChild() {
+        final CompletionStage<Manifest> future = this.manifests.put(
+            new ManifestRef.FromTag(new Tag.Valid("broken-list")),
+            new Content.From(
+                Json.createObjectBuilder().add(
+                    "manifests",
+                    Json.createArrayBuilder().add(
+                        Json.createObjectBuilder().add("digest", "sha256:0123")
+                    )
+                ).build().toString().getBytes()
+            )
+        );
+        final CompletionException exception = Assertions.assertThrows(
+            CompletionException.class,
+            () -> future.toCompletableFuture().join()
+        );
+        MatcherAssert.assertThat(
+            exception.getCause(),
+            new IsInstanceOf(InvalidManifestException.class)
+        );
+    }
+
+    @Test
+    @Timeout(5)
+    void shouldFailPutManifestWithoutConfig() {
+        final CompletionStage<Manifest> future = this.manifests.put(
+            new ManifestRef.FromTag(new Tag.Valid("no-config")),
+            new Content.From("{\"layers\":[]}".getBytes())
+        );
+        final CompletionException exception = Assertions.assertThrows(
+            CompletionException.class,
+            () -> future.toCompletableFuture().join()
+        );
+        MatcherAssert.assertThat(
+            exception.getCause(),
+            new IsInstanceOf(InvalidManifestException.class)
+        );
+    }
+
     @Test
     @Timeout(5)
     void shouldFailPutEmptyManifest() {
@@ -147,6 +258,39 @@ final class AstoManifestsTest {
         );
     }
 
+    @Test
+    @Timeout(5)
+    void shouldAddRepositoryToCatalogOnEveryPush() {
+        final Blob config = this.blobs.put(new TrustedBlobSource("config".getBytes()))
+            .toCompletableFuture().join();
+        final byte[] data = Json.createObjectBuilder()
+            .add(
+                "config",
+                Json.createObjectBuilder().add("digest", config.digest().string())
+            )
+            .add("layers", Json.createArrayBuilder())
+            .build().toString().getBytes();
+        final Key catalog = new DefaultLayout().catalog();
+        this.manifests.put(
+            new ManifestRef.FromTag(new Tag.Valid("first")), new Content.From(data)
+        ).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            "Adds repository to catalog on first push",
+            this.storage.exists(catalog).join(),
+            new IsEqual<>(true)
+        );
+        this.storage.delete(catalog).join();
+        this.manifests.put(
+            new ManifestRef.FromTag(new Tag.Valid("second")), new Content.From(data)
+        ).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            "Adds repository missing in catalog on next push",
+            new PublisherAs(this.storage.value(catalog).join()).asciiString()
+                .toCompletableFuture().join(),
+            new IsEqual<>("my-alpine")
+        );
+    }
+
     @Test
     @Timeout(5)
     void shouldReadTags() {
@@ -23,21 +23,19 @@
  */
 package com.artipie.docker.asto;
 
-import com.artipie.asto.Key;
 import com.artipie.asto.ext.PublisherAs;
 import com.artipie.docker.RepoName;
 import com.artipie.docker.Tag;
 import com.google.common.base.Splitter;
 import java.io.StringReader;
-import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import javax.json.Json;
 import javax.json.JsonReader;
 import org.hamcrest.MatcherAssert;
-import org.junit.jupiter.api.BeforeEach;
+import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import wtf.g4s8.hamcrest.json.JsonContains;
@@ -54,39 +52,18 @@ final class AstoTagsTest {
     /**
      * Repository name used in tests.
      */
-    private RepoName name;
-
-    /**
-     * Tag keys.
-     */
-    private Collection<Key> keys;
-
-    @BeforeEach
-    void setUp() {
-        this.name = new RepoName.Simple("test");
-        this.keys = Stream.of("foo/1.0", "foo/0.1-rc", "foo/latest", "foo/0.1")
-            .map(Key.From::new)
-            .collect(Collectors.toList());
-    }
+    private static final RepoName NAME = new RepoName.Simple("test");
 
     @ParameterizedTest
     @CsvSource({
-        ",,0.1;0.1-rc;1.0;latest",
-        "0.1-rc,,1.0;latest",
-        "xyz,,''",
-        ",2,0.1;0.1-rc",
-        "0.1,2,0.1-rc;1.0"
+        "0.1;0.1-rc;1.0;latest",
+        "latest",
+        "''"
     })
-    void shouldSupportPaging(final String from, final Integer limit, final String result) {
+    void shouldWritePage(final String names) {
         MatcherAssert.assertThat(
             new PublisherAs(
-                new AstoTags(
-                    this.name,
-                    new Key.From("foo"),
-                    this.keys,
-                    Optional.ofNullable(from).map(Tag.Valid::new),
-                    Optional.ofNullable(limit).orElse(Integer.MAX_VALUE)
-                ).json()
+                new AstoTags(AstoTagsTest.NAME, AstoTagsTest.page(names), Integer.MAX_VALUE).json()
             ).asciiString().thenApply(
                 str -> {
                     try (JsonReader reader = Json.createReader(new StringReader(str))) {
@@ -97,12 +74,39 @@ final class AstoTagsTest {
             new JsonHas(
                 "tags",
                 new JsonContains(
-                    StreamSupport.stream(
-                        Splitter.on(";").omitEmptyStrings().split(result).spliterator(),
-                        false
-                    ).map(JsonValueIs::new).collect(Collectors.toList())
+                    AstoTagsTest.page(names).stream()
+                        .map(JsonValueIs::new)
+                        .collect(Collectors.toList())
                 )
             )
         );
     }
+
+    @ParameterizedTest
+    @CsvSource({
+        "0.1;1.0,2,1.0",
+        "0.1,2,''",
+        "'',2,''"
+    })
+    void shouldPointToNextPageWhenFull(
+        final String names, final int limit, final String next
+    ) {
+        MatcherAssert.assertThat(
+            new AstoTags(AstoTagsTest.NAME, AstoTagsTest.page(names), limit).next().map(Tag::value),
+            new IsEqual<>(Optional.of(next).filter(name -> !name.isEmpty()))
+        );
+    }
+
+    /**
+     * Split names page.
+     *
+     * @param names Names separated by semicolon.
+     * @return Names page.
+     */
+    private static List<String> page(final String names) {
+        return StreamSupport.stream(
+            Splitter.on(";").omitEmptyStrings().split(names).spliterator(),
+            false
+        ).collect(Collectors.toList());
+    }
 }
@@ -32,6 +32,7 @@ import com.artipie.docker.Digest;
 import com.artipie.docker.Layers;
 import com.artipie.docker.RepoName;
 import com.artipie.docker.Upload;
+import com.artipie.docker.error.InvalidUploadException;
 import io.reactivex.Flowable;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
@@ -41,8 +42,10 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
 import org.hamcrest.Description;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
 import org.hamcrest.TypeSafeMatcher;
 import org.hamcrest.collection.IsEmptyCollection;
 import org.hamcrest.core.IsEqual;
@@ -110,19 +113,170 @@ class AstoUploadTest {
     }
 
     @Test
-    void shouldFailAppendedSecondChunk() {
+    void shouldReturnOffsetWhenAppendedSecondChunk() {
+        final byte[] first = "first".getBytes();
+        final byte[] second = "second".getBytes();
+        this.upload.start().toCompletableFuture().join();
+        this.upload.append(Flowable.just(ByteBuffer.wrap(first))).toCompletableFuture().join();
+        final Long offset = this.upload.append(Flowable.just(ByteBuffer.wrap(second)))
+            .toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            offset,
+            new IsEqual<>((long) first.length + second.length - 1)
+        );
+    }
+
+    @Test
+    void shouldReadAllAppendedChunks() {
         this.upload.start().toCompletableFuture().join();
         this.upload.append(Flowable.just(ByteBuffer.wrap("one".getBytes())))
             .toCompletableFuture()
             .join();
+        this.upload.append(Flowable.just(ByteBuffer.wrap("two".getBytes())))
+            .toCompletableFuture()
+            .join();
+        MatcherAssert.assertThat(
+            this.upload,
+            new IsUploadWithContent("onetwo".getBytes())
+        );
+    }
+
+    @Test
+    void shouldSaveChunkWithoutTemporaryCopies() {
+        this.upload.start().toCompletableFuture().join();
+        this.upload.append(Flowable.just(ByteBuffer.wrap("once".getBytes())))
+            .toCompletableFuture()
+            .join();
+        MatcherAssert.assertThat(
+            this.storage.list(this.upload.root()).join().stream()
+                .map(Key::string)
+                .collect(Collectors.toList()),
+            Matchers.containsInAnyOrder(
+                new Key.From(this.upload.root(), "started").string(),
+                new Key.From(this.upload.root(), "session").string(),
+                new Key.From(this.upload.root(), "chunks", "0000000000000000000").string()
+            )
+        );
+    }
+
+    @Test
+    void shouldNotKeepTemporaryCopiesOfRangedChunk() {
+        this.upload.start().toCompletableFuture().join();
+        this.upload.write(4, 7, Flowable.just(ByteBuffer.wrap("5678".getBytes())))
+            .toCompletableFuture()
+            .join();
+        MatcherAssert.assertThat(
+            this.storage.list(this.upload.root()).join().stream()
+                .map(Key::string)
+                .collect(Collectors.toList()),
+            Matchers.containsInAnyOrder(
+                new Key.From(this.upload.root(), "started").string(),
+                new Key.From(this.upload.root(), "session").string(),
+                new Key.From(this.upload.root(), "chunks", "0000000000000000004").string()
+            )
+        );
+    }
+
+    @Test
+    void shouldContinueUploadStartedByAnotherInstance() {
+        this.upload.start().toCompletableFuture().join();
+        this.upload.append(Flowable.just(ByteBuffer.wrap("abc".getBytes())))
+            .toCompletableFuture()
+            .join();
+        final AstoUpload other = new AstoUpload(
+            this.storage,
+            new DefaultLayout(),
+            new RepoName.Valid("test"),
+            this.upload.uuid()
+        );
+        other.append(Flowable.just(ByteBuffer.wrap("def".getBytes())))
+            .toCompletableFuture()
+            .join();
+        MatcherAssert.assertThat(
+            other,
+            new IsUploadWithContent("abcdef".getBytes())
+        );
+    }
+
+    @Test
+    void shouldAssembleChunksWrittenOutOfOrder() {
+        this.upload.start().toCompletableFuture().join();
+        this.upload.write(4, 7, Flowable.just(ByteBuffer.wrap("5678".getBytes())))
+            .toCompletableFuture()
+            .join();
+        this.upload.write(0, 3, Flowable.just(ByteBuffer.wrap("1234".getBytes())))
+            .toCompletableFuture()
+            .join();
+        MatcherAssert.assertThat(
+            this.upload,
+            new IsUploadWithContent("12345678".getBytes())
+        );
+    }
+
+    @Test
+    void shouldNotKeepChunkNotMatchingRange() {
+        final byte[] chunk = "1234".getBytes();
+        this.upload.start().toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                CompletionException.class,
+                () -> this.upload.write(0, 9, Flowable.just(ByteBuffer.wrap("12".getBytes())))
+                    .toCompletableFuture()
+                    .join()
+            ).getCause(),
+            new IsInstanceOf(InvalidUploadException.class)
+        );
+        this.upload.write(0, 3, Flowable.just(ByteBuffer.wrap(chunk)))
+            .toCompletableFuture()
+            .join();
+        MatcherAssert.assertThat(
+            this.upload,
+            new IsUploadWithContent(chunk)
+        );
+    }
+
+    @Test
+    void shouldNotAppendOverChunkWrittenOutOfOrder() {
+        this.upload.start().toCompletableFuture().join();
+        this.upload.write(0, 3, Flowable.just(ByteBuffer.wrap("1234".getBytes())))
+            .toCompletableFuture()
+            .join();
+        this.upload.write(8, 11, Flowable.just(ByteBuffer.wrap("9012".getBytes())))
+            .toCompletableFuture()
+            .join();
+        this.upload.append(Flowable.just(ByteBuffer.wrap("5678".getBytes())))
+            .toCompletableFuture()
+            .join();
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                CompletionException.class,
+                () -> this.upload.append(Flowable.just(ByteBuffer.wrap("0000".getBytes())))
+                    .toCompletableFuture()
+                    .join()
+            ).getCause(),
+            new IsInstanceOf(InvalidUploadException.class)
+        );
+        MatcherAssert.assertThat(
+            this.upload,
+            new IsUploadWithContent("123456789012".getBytes())
+        );
+    }
+
+    @Test
+    void shouldFailToPutUploadWithGap() {
+        final byte[] chunk = "tail".getBytes();
+        this.upload.start().toCompletableFuture().join();
+        this.upload.write(10, 13, Flowable.just(ByteBuffer.wrap(chunk)))
+            .toCompletableFuture()
+            .join();
         MatcherAssert.assertThat(
             Assertions.assertThrows(
                 CompletionException.class,
-                () -> this.upload.append(Flowable.just(ByteBuffer.wrap("two".getBytes())))
+                () -> this.upload.putTo(new CapturePutLayers(), new Digest.Sha256(chunk))
                     .toCompletableFuture()
                     .join()
             ).getCause(),
-            new IsInstanceOf(UnsupportedOperationException.class)
+            new IsInstanceOf(InvalidUploadException.class)
         );
     }
 
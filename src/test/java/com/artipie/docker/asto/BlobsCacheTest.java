@@ -0,0 +1,57 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.docker.asto;
+
+import com.artipie.asto.Key;
+import java.time.Duration;
+import java.util.Optional;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link BlobsCache}.
+ *
+ * @since 0.13
+ */
+final class BlobsCacheTest {
+
+    @Test
+    void shouldKeepPresentBlobWhenAbsenceObservedLater() {
+        final BlobsCache cache = new BlobsCache(10, Duration.ofMinutes(1));
+        final Key key = new Key.From("blobs", "late");
+        cache.present(key);
+        cache.absent(key);
+        MatcherAssert.assertThat(cache.exists(key), new IsEqual<>(Optional.of(true)));
+    }
+
+    @Test
+    void shouldReplaceAbsentBlobWhenSaved() {
+        final BlobsCache cache = new BlobsCache(10, Duration.ofMinutes(1));
+        final Key key = new Key.From("blobs", "saved");
+        cache.absent(key);
+        cache.sized(key, 1L);
+        MatcherAssert.assertThat(cache.size(key), new IsEqual<>(Optional.of(1L)));
+    }
+}
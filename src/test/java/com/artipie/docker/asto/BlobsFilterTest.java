@@ -0,0 +1,184 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.docker.asto;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.docker.Digest;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link BlobsFilter}.
+ *
+ * @since 0.13
+ */
+final class BlobsFilterTest {
+
+    /**
+     * Digest of blob absent in storage.
+     */
+    private static final Digest ABSENT = new Digest.Sha256(
+        "0123456789012345678901234567890123456789012345678901234567890123"
+    );
+
+    @Test
+    void shouldMightContainAnythingBeforeBuilt() {
+        MatcherAssert.assertThat(
+            new BlobsFilter(100, 0.000_001).mightContain(BlobsFilterTest.ABSENT),
+            new IsEqual<>(true)
+        );
+    }
+
+    @Test
+    void shouldContainBlobsFromStorage() {
+        final Storage storage = new InMemoryStorage();
+        final Digest digest = new Digest.Sha256("stored".getBytes());
+        storage.save(new BlobKey(digest), new Content.From("stored".getBytes())).join();
+        final BlobsFilter filter = new BlobsFilter(100, 0.000_001);
+        filter.rebuild(storage, new DefaultLayout()).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            "Contains stored blob",
+            filter.mightContain(digest),
+            new IsEqual<>(true)
+        );
+        MatcherAssert.assertThat(
+            "Does not contain absent blob",
+            filter.mightContain(BlobsFilterTest.ABSENT),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void shouldContainAddedBlob() {
+        final BlobsFilter filter = new BlobsFilter(100, 0.000_001);
+        filter.rebuild(new InMemoryStorage(), new DefaultLayout()).toCompletableFuture().join();
+        final Digest digest = new Digest.Sha256("added".getBytes());
+        filter.add(digest);
+        MatcherAssert.assertThat(filter.mightContain(digest), new IsEqual<>(true));
+    }
+
+    @Test
+    void shouldMightContainAnythingWhenDisabled() {
+        final BlobsFilter filter = new BlobsFilter();
+        filter.rebuild(new InMemoryStorage(), new DefaultLayout()).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            filter.mightContain(BlobsFilterTest.ABSENT),
+            new IsEqual<>(true)
+        );
+    }
+
+    @Test
+    void shouldKeepBlobAddedDuringOverlappingRebuilds() {
+        final CompletableFuture<Void> listed = new CompletableFuture<>();
+        final Storage storage = new ListingStorage(listed);
+        final BlobsFilter filter = new BlobsFilter(100, 0.000_001);
+        final CompletionStage<Void> first = filter.rebuild(storage, new DefaultLayout());
+        final Digest digest = new Digest.Sha256("added".getBytes());
+        filter.add(digest);
+        final CompletionStage<Void> second = filter.rebuild(storage, new DefaultLayout());
+        listed.complete(null);
+        first.toCompletableFuture().join();
+        second.toCompletableFuture().join();
+        MatcherAssert.assertThat(filter.mightContain(digest), new IsEqual<>(true));
+    }
+
+    /**
+     * Storage which completes listing only when allowed.
+     *
+     * @since 0.13
+     */
+    private static final class ListingStorage implements Storage {
+
+        /**
+         * Origin storage.
+         */
+        private final Storage origin;
+
+        /**
+         * Completed when listing is allowed.
+         */
+        private final CompletableFuture<Void> allowed;
+
+        /**
+         * Ctor.
+         *
+         * @param allowed Completed when listing is allowed.
+         */
+        ListingStorage(final CompletableFuture<Void> allowed) {
+            this.origin = new InMemoryStorage();
+            this.allowed = allowed;
+        }
+
+        @Override
+        public CompletableFuture<Boolean> exists(final Key key) {
+            return this.origin.exists(key);
+        }
+
+        @Override
+        public CompletableFuture<Collection<Key>> list(final Key prefix) {
+            return this.allowed.thenCompose(nothing -> this.origin.list(prefix));
+        }
+
+        @Override
+        public CompletableFuture<Void> save(final Key key, final Content content) {
+            return this.origin.save(key, content);
+        }
+
+        @Override
+        public CompletableFuture<Void> move(final Key source, final Key destination) {
+            return this.origin.move(source, destination);
+        }
+
+        @Override
+        public CompletableFuture<Long> size(final Key key) {
+            return this.origin.size(key);
+        }
+
+        @Override
+        public CompletableFuture<Content> value(final Key key) {
+            return this.origin.value(key);
+        }
+
+        @Override
+        public CompletableFuture<Void> delete(final Key key) {
+            return this.origin.delete(key);
+        }
+
+        @Override
+        public <T> CompletionStage<T> exclusively(
+            final Key key,
+            final Function<Storage, CompletionStage<T>> operation
+        ) {
+            return this.origin.exclusively(key, operation);
+        }
+    }
+}
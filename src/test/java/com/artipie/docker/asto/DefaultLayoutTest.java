@@ -23,6 +23,7 @@
  */
 package com.artipie.docker.asto;
 
+import com.artipie.docker.Digest;
 import com.artipie.docker.RepoName;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsEqual;
@@ -43,6 +44,14 @@ public final class DefaultLayoutTest {
         );
     }
 
+    @Test
+    public void buildsCatalog() {
+        MatcherAssert.assertThat(
+            new DefaultLayout().catalog().string(),
+            new IsEqual<>("catalog")
+        );
+    }
+
     @Test
     public void buildsTags() {
         MatcherAssert.assertThat(
@@ -50,4 +59,22 @@ public final class DefaultLayoutTest {
             new IsEqual<>("repositories/my-alpine/_manifests/tags")
         );
     }
+
+    @Test
+    public void buildsTagsIndex() {
+        MatcherAssert.assertThat(
+            new DefaultLayout().tagsIndex(new RepoName.Simple("my-alpine")).string(),
+            new IsEqual<>("repositories/my-alpine/_manifests/tagindex")
+        );
+    }
+
+    @Test
+    public void buildsManifestMeta() {
+        MatcherAssert.assertThat(
+            new DefaultLayout().meta(
+                new RepoName.Simple("my-alpine"), new Digest.Sha256("abc123")
+            ).string(),
+            new IsEqual<>("repositories/my-alpine/_manifests/revisions/sha256/abc123/meta")
+        );
+    }
 }
@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.docker.asto;
+
+import com.artipie.asto.Key;
+import com.artipie.docker.Digest;
+import com.artipie.docker.manifest.ManifestMeta;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ManifestsCache}.
+ *
+ * @since 0.13
+ */
+final class ManifestsCacheTest {
+
+    @Test
+    void shouldRememberLink() {
+        final ManifestsCache cache = new ManifestsCache(10, 100L);
+        final Key key = new Key.From("test", "latest");
+        final Digest digest = new Digest.Sha256("123");
+        cache.link(key, digest);
+        MatcherAssert.assertThat(cache.link(key), new IsEqual<>(Optional.of(digest)));
+    }
+
+    @Test
+    void shouldExpireLink() {
+        final ManifestsCache cache = new ManifestsCache(10, 100L, Duration.ZERO);
+        final Key key = new Key.From("test", "expired");
+        cache.link(key, new Digest.Sha256("123"));
+        MatcherAssert.assertThat(cache.link(key), new IsEqual<>(Optional.empty()));
+    }
+
+    @Test
+    void shouldRememberMetaWithinCount() {
+        final ManifestsCache cache = new ManifestsCache(1, 100L);
+        final Digest first = new Digest.Sha256("1");
+        final Digest second = new Digest.Sha256("2");
+        cache.meta(new ManifestMeta(first, "application/json", 1L));
+        cache.meta(new ManifestMeta(second, "application/json", 2L));
+        MatcherAssert.assertThat(
+            "Evicts eldest meta",
+            cache.meta(first).isPresent(),
+            new IsEqual<>(false)
+        );
+        MatcherAssert.assertThat(
+            "Keeps recent meta",
+            cache.meta(second).map(ManifestMeta::size),
+            new IsEqual<>(Optional.of(2L))
+        );
+    }
+
+    @Test
+    void shouldEvictManifestsExceedingCapacity() {
+        final ManifestsCache cache = new ManifestsCache(10, 10L);
+        final Digest first = new Digest.Sha256("1");
+        final Digest second = new Digest.Sha256("2");
+        cache.manifest(first, new byte[6]);
+        cache.manifest(second, new byte[6]);
+        MatcherAssert.assertThat(
+            "Evicts eldest manifest",
+            cache.manifest(first).isPresent(),
+            new IsEqual<>(false)
+        );
+        MatcherAssert.assertThat(
+            "Keeps recent manifest",
+            cache.manifest(second).isPresent(),
+            new IsEqual<>(true)
+        );
+    }
+
+    @Test
+    void shouldNotRememberManifestLargerThanCapacity() {
+        final ManifestsCache cache = new ManifestsCache(10, 10L);
+        final Digest digest = new Digest.Sha256("large");
+        cache.manifest(digest, new byte[11]);
+        MatcherAssert.assertThat(cache.manifest(digest).isPresent(), new IsEqual<>(false));
+    }
+
+    @Test
+    void shouldRememberNamesOfIndexWithSameSize() {
+        final ManifestsCache cache = new ManifestsCache(10, 10L);
+        final Key key = new Key.From("catalog");
+        final List<String> names = Arrays.asList("a", "b");
+        cache.names(key, 3L, names);
+        MatcherAssert.assertThat(
+            "Returns names of index with same size",
+            cache.names(key, 3L),
+            new IsEqual<>(Optional.of(names))
+        );
+        MatcherAssert.assertThat(
+            "Does not return names of index with another size",
+            cache.names(key, 5L),
+            new IsEqual<>(Optional.empty())
+        );
+    }
+}
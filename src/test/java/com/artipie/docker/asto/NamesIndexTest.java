@@ -0,0 +1,196 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.docker.asto;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.memory.InMemoryStorage;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link NamesIndex}.
+ *
+ * @since 0.13
+ */
+final class NamesIndexTest {
+
+    /**
+     * Storage used in tests.
+     */
+    private Storage storage;
+
+    /**
+     * Index being tested.
+     */
+    private NamesIndex index;
+
+    @BeforeEach
+    void setUp() {
+        this.storage = new InMemoryStorage();
+        final Key root = new Key.From("tags");
+        this.index = new NamesIndex(
+            this.storage,
+            new Key.From("index"),
+            sto -> sto.list(root).thenApply(keys -> new Children(root, keys).names())
+        );
+    }
+
+    @Test
+    void shouldKeepNamesSorted() {
+        this.add("latest");
+        this.add("1.0");
+        this.add("0.1");
+        this.add("1.0");
+        MatcherAssert.assertThat(
+            this.index.page(Optional.empty(), Integer.MAX_VALUE).toCompletableFuture().join(),
+            Matchers.contains("0.1", "1.0", "latest")
+        );
+    }
+
+    @Test
+    void shouldReadPage() {
+        this.add("a");
+        this.add("b");
+        this.add("c");
+        this.add("d");
+        MatcherAssert.assertThat(
+            this.index.page(Optional.of("a1"), 2).toCompletableFuture().join(),
+            Matchers.contains("b", "c")
+        );
+    }
+
+    @Test
+    void shouldWaitForLockHeldByAnotherWriter() {
+        this.add("one");
+        final CompletableFuture<Void> held = new CompletableFuture<>();
+        final CompletableFuture<Void> locked = new CompletableFuture<>();
+        final CompletableFuture<Void> other = this.storage.exclusively(
+            new Key.From("index"),
+            sto -> {
+                locked.complete(null);
+                return held;
+            }
+        ).toCompletableFuture();
+        locked.join();
+        final CompletableFuture<Void> added = this.index.add("two").toCompletableFuture();
+        held.complete(null);
+        other.join();
+        added.join();
+        MatcherAssert.assertThat(
+            this.index.page(Optional.empty(), Integer.MAX_VALUE).toCompletableFuture().join(),
+            Matchers.contains("one", "two")
+        );
+    }
+
+    @Test
+    void shouldListSourceWhenLockIsHeld() {
+        this.storage.save(new Key.From("tags/b/current/link"), Content.EMPTY).join();
+        this.storage.save(new Key.From("tags/a/current/link"), Content.EMPTY).join();
+        final CompletableFuture<Void> held = new CompletableFuture<>();
+        final CompletableFuture<Void> locked = new CompletableFuture<>();
+        this.storage.exclusively(
+            new Key.From("index"),
+            sto -> {
+                locked.complete(null);
+                return held;
+            }
+        );
+        locked.join();
+        MatcherAssert.assertThat(
+            this.index.page(Optional.empty(), Integer.MAX_VALUE).toCompletableFuture().join(),
+            Matchers.contains("a", "b")
+        );
+        held.complete(null);
+    }
+
+    @Test
+    void shouldBuildMissingIndexFromSource() {
+        this.storage.save(new Key.From("tags/2/current/link"), Content.EMPTY).join();
+        this.storage.save(new Key.From("tags/1/current/link"), Content.EMPTY).join();
+        this.add("3");
+        MatcherAssert.assertThat(
+            this.index.page(Optional.empty(), Integer.MAX_VALUE).toCompletableFuture().join(),
+            Matchers.contains("1", "2", "3")
+        );
+    }
+
+    @Test
+    void shouldReadPagesFromCachedIndex() {
+        final ManifestsCache cache = new ManifestsCache(10, 0L);
+        final NamesIndex cached = new NamesIndex(
+            this.storage, new Key.From("cached"), sto -> this.source(), cache
+        );
+        cached.add("a").toCompletableFuture().join();
+        cached.add("b").toCompletableFuture().join();
+        this.storage.save(
+            new Key.From("cached"),
+            new Content.From("x\ny".getBytes(StandardCharsets.US_ASCII))
+        ).join();
+        MatcherAssert.assertThat(
+            cached.page(Optional.of("a"), 1).toCompletableFuture().join(),
+            Matchers.contains("b")
+        );
+    }
+
+    @Test
+    void shouldReadIndexUpdatedByAnotherWriter() {
+        final Key key = new Key.From("shared");
+        final NamesIndex first = new NamesIndex(
+            this.storage, key, sto -> this.source(), new ManifestsCache(10, 0L)
+        );
+        final NamesIndex second = new NamesIndex(
+            this.storage, key, sto -> this.source(), new ManifestsCache(10, 0L)
+        );
+        first.add("a").toCompletableFuture().join();
+        second.page(Optional.empty(), Integer.MAX_VALUE).toCompletableFuture().join();
+        first.add("b").toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            second.page(Optional.empty(), Integer.MAX_VALUE).toCompletableFuture().join(),
+            Matchers.contains("a", "b")
+        );
+    }
+
+    /**
+     * Empty names source.
+     *
+     * @return Names.
+     */
+    private CompletionStage<Collection<String>> source() {
+        return CompletableFuture.completedFuture(Collections.emptyList());
+    }
+
+    private void add(final String name) {
+        this.index.add(name).toCompletableFuture().join();
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.docker.asto;
+
+import com.artipie.asto.Key;
+import java.time.Duration;
+import java.util.Optional;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link UploadSessions}.
+ *
+ * @since 0.13
+ */
+final class UploadSessionsTest {
+
+    @Test
+    void shouldRememberStartedUpload() {
+        final UploadSessions sessions = new UploadSessions(10, Duration.ofHours(1));
+        final Key upload = new Key.From("uploads", "first");
+        sessions.started(upload);
+        sessions.appended(upload, 5L);
+        MatcherAssert.assertThat(
+            sessions.size(upload),
+            new IsEqual<>(Optional.of(5L))
+        );
+    }
+
+    @Test
+    void shouldKeepLargestSize() {
+        final UploadSessions sessions = new UploadSessions(10, Duration.ofHours(1));
+        final Key upload = new Key.From("uploads", "largest");
+        sessions.started(upload);
+        sessions.appended(upload, 10L);
+        sessions.appended(upload, 3L);
+        MatcherAssert.assertThat(
+            sessions.size(upload),
+            new IsEqual<>(Optional.of(10L))
+        );
+    }
+
+    @Test
+    void shouldForgetFinishedUpload() {
+        final UploadSessions sessions = new UploadSessions(10, Duration.ofHours(1));
+        final Key upload = new Key.From("uploads", "finished");
+        sessions.started(upload);
+        sessions.finished(upload);
+        MatcherAssert.assertThat(sessions.active(upload), new IsEqual<>(false));
+    }
+
+    @Test
+    void shouldForgetExpiredUpload() {
+        final UploadSessions sessions = new UploadSessions(10, Duration.ZERO);
+        final Key upload = new Key.From("uploads", "expired");
+        sessions.started(upload);
+        MatcherAssert.assertThat(sessions.active(upload), new IsEqual<>(false));
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedUpload() {
+        final UploadSessions sessions = new UploadSessions(2, Duration.ofHours(1));
+        final Key first = new Key.From("uploads", "1");
+        sessions.started(first);
+        sessions.started(new Key.From("uploads", "2"));
+        sessions.started(new Key.From("uploads", "3"));
+        MatcherAssert.assertThat(sessions.active(first), new IsEqual<>(false));
+    }
+
+    @Test
+    void shouldNotRememberAnythingWhenDisabled() {
+        final UploadSessions sessions = new UploadSessions();
+        final Key upload = new Key.From("uploads", "disabled");
+        sessions.started(upload);
+        MatcherAssert.assertThat(sessions.size(upload), new IsEqual<>(Optional.empty()));
+    }
+}
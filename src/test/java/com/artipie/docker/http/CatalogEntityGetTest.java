@@ -31,7 +31,9 @@ import com.artipie.docker.RepoName;
 import com.artipie.http.Headers;
 import com.artipie.http.headers.ContentLength;
 import com.artipie.http.headers.ContentType;
+import com.artipie.http.headers.Header;
 import com.artipie.http.hm.ResponseMatcher;
+import com.artipie.http.hm.RsHasHeaders;
 import com.artipie.http.hm.SliceHasResponse;
 import com.artipie.http.rq.RequestLine;
 import com.artipie.http.rq.RqMethod;
@@ -44,6 +46,8 @@ import java.util.concurrent.atomic.AtomicReference;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 /**
  * Tests for {@link DockerSlice}.
@@ -98,6 +102,95 @@ class CatalogEntityGetTest {
         );
     }
 
+    @Test
+    void shouldUseDefaultPageSize() {
+        final FakeDocker docker = new FakeDocker(() -> Content.EMPTY);
+        new DockerSlice(docker).response(
+            new RequestLine(RqMethod.GET, "/v2/_catalog").toString(),
+            Headers.EMPTY,
+            Content.EMPTY
+        ).send((status, headers, body) -> CompletableFuture.allOf()).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            docker.limit.get(),
+            new IsEqual<>(100)
+        );
+    }
+
+    @Test
+    void shouldLimitPageSize() {
+        final FakeDocker docker = new FakeDocker(() -> Content.EMPTY);
+        new DockerSlice(docker).response(
+            new RequestLine(RqMethod.GET, "/v2/_catalog?n=100000").toString(),
+            Headers.EMPTY,
+            Content.EMPTY
+        ).send((status, headers, body) -> CompletableFuture.allOf()).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            docker.limit.get(),
+            new IsEqual<>(PageSize.MAX)
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"abc", "-1", "99999999999"})
+    void shouldRejectInvalidPageSize(final String size) {
+        MatcherAssert.assertThat(
+            new DockerSlice(new FakeDocker(() -> Content.EMPTY)).response(
+                new RequestLine(RqMethod.GET, String.format("/v2/_catalog?n=%s", size))
+                    .toString(),
+                Headers.EMPTY,
+                Content.EMPTY
+            ),
+            new IsErrorsResponse(RsStatus.BAD_REQUEST, "PAGINATION_NUMBER_INVALID")
+        );
+    }
+
+    @Test
+    void shouldReturnNextLink() {
+        MatcherAssert.assertThat(
+            new DockerSlice(new FakeDocker(new PagedCatalog("my/repo"))),
+            new SliceHasResponse(
+                new RsHasHeaders(
+                    new Header("Link", "</v2/_catalog?n=2&last=my/repo>; rel=\"next\""),
+                    new Header("Content-Length", "0"),
+                    new Header("Content-Type", "application/json; charset=utf-8")
+                ),
+                new RequestLine(RqMethod.GET, "/v2/_catalog?n=2")
+            )
+        );
+    }
+
+    /**
+     * Catalog page followed by next page.
+     *
+     * @since 0.13
+     */
+    private static final class PagedCatalog implements Catalog {
+
+        /**
+         * Last repository name of the page.
+         */
+        private final String last;
+
+        /**
+         * Ctor.
+         *
+         * @param last Last repository name of the page.
+         */
+        PagedCatalog(final String last) {
+            this.last = last;
+        }
+
+        @Override
+        public Content json() {
+            return Content.EMPTY;
+        }
+
+        @Override
+        public Optional<RepoName> next() {
+            return Optional.of(new RepoName.Simple(this.last));
+        }
+    }
+
     /**
      * Docker implementation with specified catalog.
      * Values of parameters `from` and `limit` from last call of `catalog` method are captured.
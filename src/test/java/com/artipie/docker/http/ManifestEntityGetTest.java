@@ -23,10 +23,19 @@
  */
 package com.artipie.docker.http;
 
+import com.artipie.asto.Content;
 import com.artipie.asto.Key;
 import com.artipie.asto.ext.PublisherAs;
+import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.docker.Blob;
+import com.artipie.docker.Docker;
 import com.artipie.docker.ExampleStorage;
+import com.artipie.docker.Repo;
+import com.artipie.docker.RepoName;
+import com.artipie.docker.Tag;
 import com.artipie.docker.asto.AstoDocker;
+import com.artipie.docker.asto.TrustedBlobSource;
+import com.artipie.docker.ref.ManifestRef;
 import com.artipie.http.Response;
 import com.artipie.http.headers.Header;
 import com.artipie.http.hm.RsHasBody;
@@ -36,6 +45,7 @@ import com.artipie.http.rq.RequestLine;
 import com.artipie.http.rq.RqMethod;
 import com.artipie.http.rs.RsStatus;
 import io.reactivex.Flowable;
+import javax.json.Json;
 import org.cactoos.list.ListOf;
 import org.hamcrest.Matcher;
 import org.hamcrest.MatcherAssert;
@@ -103,6 +113,106 @@ class ManifestEntityGetTest {
         );
     }
 
+    @Test
+    void shouldReturnConvertedManifest() {
+        MatcherAssert.assertThat(
+            this.slice.response(
+                new RequestLine(RqMethod.GET, "/v2/my-alpine/manifests/1").toString(),
+                new Headers.From(
+                    new Header(
+                        "Accept",
+                        "application/vnd.oci.image.manifest.v1+json, */*;q=0"
+                    )
+                ),
+                Flowable.empty()
+            ),
+            new AllOf<>(
+                new ListOf<Matcher<? super Response>>(
+                    new RsHasStatus(RsStatus.OK),
+                    new RsHasHeaders(
+                        new Header("Content-Length", "406"),
+                        new Header("Content-Type", "application/vnd.oci.image.manifest.v1+json"),
+                        new Header(
+                            "Docker-Content-Digest",
+                            "sha256:88ef6c8feff2c5190cf05637a41f96702b5d105783dafc5d95508a9225570fe5"
+                        ),
+                        new Header("Vary", "Accept")
+                    )
+                )
+            )
+        );
+    }
+
+    @Test
+    void shouldNotConvertManifestRequestedByDigest() {
+        MatcherAssert.assertThat(
+            this.slice.response(
+                new RequestLine(
+                    RqMethod.GET,
+                    String.format(
+                        "/v2/my-alpine/manifests/%s",
+                        "sha256:cb8a924afdf0229ef7515d9e5b3024e23b3eb03ddbba287f4a19c6ac90b8d221"
+                    )
+                ).toString(),
+                new Headers.From(
+                    new Header("Accept", "application/vnd.oci.image.manifest.v1+json")
+                ),
+                Flowable.empty()
+            ),
+            new IsErrorsResponse(RsStatus.NOT_FOUND, "MANIFEST_UNKNOWN")
+        );
+    }
+
+    @Test
+    void shouldReturnNotFoundForUnacceptableManifest() {
+        MatcherAssert.assertThat(
+            this.slice.response(
+                new RequestLine(RqMethod.GET, "/v2/my-alpine/manifests/1").toString(),
+                new Headers.From(
+                    new Header(
+                        "Accept", "application/vnd.docker.distribution.manifest.v1+prettyjws"
+                    )
+                ),
+                Flowable.empty()
+            ),
+            new IsErrorsResponse(RsStatus.NOT_FOUND, "MANIFEST_UNKNOWN")
+        );
+    }
+
+    @Test
+    void shouldReturnNotFoundForIndexWhenOnlyEquivalentTypeAccepted() {
+        final Docker docker = new AstoDocker(new InMemoryStorage());
+        final Repo repo = docker.repo(new RepoName.Valid("my-list"));
+        final Blob child = repo.layers().put(new TrustedBlobSource("child".getBytes()))
+            .toCompletableFuture().join();
+        repo.manifests().put(
+            new ManifestRef.FromTag(new Tag.Valid("latest")),
+            new Content.From(
+                Json.createObjectBuilder()
+                    .add(
+                        "mediaType",
+                        "application/vnd.docker.distribution.manifest.list.v2+json"
+                    )
+                    .add(
+                        "manifests",
+                        Json.createArrayBuilder().add(
+                            Json.createObjectBuilder().add("digest", child.digest().string())
+                        )
+                    ).build().toString().getBytes()
+            )
+        ).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            new DockerSlice(docker).response(
+                new RequestLine(RqMethod.GET, "/v2/my-list/manifests/latest").toString(),
+                new Headers.From(
+                    new Header("Accept", "application/vnd.oci.image.index.v1+json")
+                ),
+                Flowable.empty()
+            ),
+            new IsErrorsResponse(RsStatus.NOT_FOUND, "MANIFEST_UNKNOWN")
+        );
+    }
+
     @Test
     void shouldReturnNotFoundForUnknownTag() {
         MatcherAssert.assertThat(
@@ -176,7 +286,8 @@ class ManifestEntityGetTest {
                             "Content-Type",
                             "application/vnd.docker.distribution.manifest.v2+json"
                         ),
-                        new Header("Docker-Content-Digest", digest)
+                        new Header("Docker-Content-Digest", digest),
+                        new Header("Vary", "Accept")
                     ),
                     new RsHasBody(content)
                 )
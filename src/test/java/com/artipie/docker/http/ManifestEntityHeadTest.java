@@ -94,6 +94,26 @@ class ManifestEntityHeadTest {
         );
     }
 
+    @Test
+    void shouldNotConvertManifestRequestedByDigest() {
+        MatcherAssert.assertThat(
+            this.slice.response(
+                new RequestLine(
+                    RqMethod.HEAD,
+                    String.format(
+                        "/v2/my-alpine/manifests/%s",
+                        "sha256:cb8a924afdf0229ef7515d9e5b3024e23b3eb03ddbba287f4a19c6ac90b8d221"
+                    )
+                ).toString(),
+                new Headers.From(
+                    new Header("Accept", "application/vnd.oci.image.manifest.v1+json")
+                ),
+                Flowable.empty()
+            ),
+            new IsErrorsResponse(RsStatus.NOT_FOUND, "MANIFEST_UNKNOWN")
+        );
+    }
+
     @Test
     void shouldReturnNotFoundForUnknownTag() {
         MatcherAssert.assertThat(
@@ -155,10 +175,12 @@ class ManifestEntityHeadTest {
                 new ListOf<Matcher<? super Response>>(
                     new RsHasStatus(RsStatus.OK),
                     new RsHasHeaders(
+                        new Header("Content-Length", "528"),
                         new Header(
                             "Content-type", "application/vnd.docker.distribution.manifest.v2+json"
                         ),
-                        new Header("Docker-Content-Digest", digest)
+                        new Header("Docker-Content-Digest", digest),
+                        new Header("Vary", "Accept")
                     )
                 )
             );
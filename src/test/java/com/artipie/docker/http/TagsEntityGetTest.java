@@ -48,6 +48,8 @@ import java.util.concurrent.atomic.AtomicReference;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 /**
  * Tests for {@link DockerSlice}.
@@ -112,6 +114,37 @@ class TagsEntityGetTest {
         );
     }
 
+    @Test
+    void shouldLimitPageSize() {
+        final FullTagsManifests manifests = new FullTagsManifests(() -> Content.EMPTY);
+        new DockerSlice(new FakeDocker(manifests)).response(
+            new RequestLine(RqMethod.GET, "/v2/my-alpine/tags/list?n=100000").toString(),
+            Headers.EMPTY,
+            Content.EMPTY
+        ).send((status, headers, body) -> CompletableFuture.allOf()).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            manifests.capturedLimit(),
+            new IsEqual<>(PageSize.MAX)
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"abc", "-1"})
+    void shouldRejectInvalidPageSize(final String size) {
+        MatcherAssert.assertThat(
+            new DockerSlice(
+                new FakeDocker(new FullTagsManifests(() -> Content.EMPTY))
+            ).response(
+                new RequestLine(
+                    RqMethod.GET, String.format("/v2/my-alpine/tags/list?n=%s", size)
+                ).toString(),
+                Headers.EMPTY,
+                Content.EMPTY
+            ),
+            new IsErrorsResponse(RsStatus.BAD_REQUEST, "PAGINATION_NUMBER_INVALID")
+        );
+    }
+
     /**
      * Docker implementation that returns repository with specified manifests
      * and captures repository name.
@@ -93,6 +93,50 @@ class UploadEntityPatchTest {
         );
     }
 
+    @Test
+    void shouldWriteChunkWithContentRange() {
+        final String name = "test";
+        final Upload upload = this.docker.repo(new RepoName.Valid(name)).uploads()
+            .start()
+            .toCompletableFuture().join();
+        final String uuid = upload.uuid();
+        final String path = String.format("/v2/%s/blobs/uploads/%s", name, uuid);
+        final Response response = this.slice.response(
+            new RequestLine(RqMethod.PATCH, path).toString(),
+            new Headers.From(new Header("Content-Range", "5-8")),
+            Flowable.just(ByteBuffer.wrap("data".getBytes()))
+        );
+        MatcherAssert.assertThat(
+            response,
+            new ResponseMatcher(
+                RsStatus.ACCEPTED,
+                new Header("Location", path),
+                new Header("Range", "0-8"),
+                new Header("Content-Length", "0"),
+                new Header("Docker-Upload-UUID", uuid)
+            )
+        );
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenChunkDoesNotMatchContentRange() {
+        final String name = "test";
+        final Upload upload = this.docker.repo(new RepoName.Valid(name)).uploads()
+            .start()
+            .toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            this.slice.response(
+                new RequestLine(
+                    RqMethod.PATCH,
+                    String.format("/v2/%s/blobs/uploads/%s", name, upload.uuid())
+                ).toString(),
+                new Headers.From(new Header("Content-Range", "0-100")),
+                Flowable.just(ByteBuffer.wrap("data".getBytes()))
+            ),
+            new IsErrorsResponse(RsStatus.BAD_REQUEST, "BLOB_UPLOAD_INVALID")
+        );
+    }
+
     @Test
     void shouldReturnNotFoundWhenUploadNotExists() {
         final Response response = this.slice.response(
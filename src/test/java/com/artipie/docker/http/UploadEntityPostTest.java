@@ -24,6 +24,7 @@
 package com.artipie.docker.http;
 
 import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.docker.Digest;
 import com.artipie.docker.Docker;
 import com.artipie.docker.RepoName;
 import com.artipie.docker.asto.AstoDocker;
@@ -38,8 +39,11 @@ import com.artipie.http.rq.RequestLine;
 import com.artipie.http.rq.RqMethod;
 import com.artipie.http.rs.RsStatus;
 import io.reactivex.Flowable;
+import java.nio.ByteBuffer;
+import java.util.Optional;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
 import org.hamcrest.core.IsNot;
 import org.hamcrest.core.StringStartsWith;
 import org.junit.jupiter.api.BeforeEach;
@@ -124,6 +128,52 @@ class UploadEntityPostTest {
         );
     }
 
+    @Test
+    void shouldUploadBlobInSingleRequest() {
+        final byte[] data = "monolithic".getBytes();
+        final Digest digest = new Digest.Sha256(data);
+        final String name = "test";
+        final Response response = this.slice.response(
+            new RequestLine(
+                RqMethod.POST,
+                String.format("/v2/%s/blobs/uploads/?digest=%s", name, digest.string())
+            ).toString(),
+            Headers.EMPTY,
+            Flowable.just(ByteBuffer.wrap(data))
+        );
+        MatcherAssert.assertThat(
+            "Returns 201 status and corresponding headers",
+            response,
+            new ResponseMatcher(
+                RsStatus.CREATED,
+                new Header("Location", String.format("/v2/%s/blobs/%s", name, digest.string())),
+                new Header("Content-Length", "0"),
+                new Header("Docker-Content-Digest", digest.string())
+            )
+        );
+        MatcherAssert.assertThat(
+            "Puts blob into storage",
+            this.docker.repo(new RepoName.Simple(name)).layers().get(digest)
+                .thenApply(Optional::isPresent)
+                .toCompletableFuture().join(),
+            new IsEqual<>(true)
+        );
+    }
+
+    @Test
+    void returnsBadRequestWhenSingleRequestDigestDoesNotMatch() {
+        MatcherAssert.assertThat(
+            this.slice.response(
+                new RequestLine(
+                    RqMethod.POST, "/v2/test/blobs/uploads/?digest=sha256:0000"
+                ).toString(),
+                Headers.EMPTY,
+                Flowable.just(ByteBuffer.wrap("something".getBytes()))
+            ),
+            new IsErrorsResponse(RsStatus.BAD_REQUEST, "DIGEST_INVALID")
+        );
+    }
+
     private static ResponseMatcher isUploadStarted() {
         return new ResponseMatcher(
             RsStatus.ACCEPTED,
@@ -94,6 +94,57 @@ class JsonManifestTest {
         );
     }
 
+    @Test
+    void shouldConvertToEquivalentType() {
+        final JsonManifest manifest = new JsonManifest(
+            new Digest.Sha256("123"),
+            Json.createObjectBuilder()
+                .add("schemaVersion", 2)
+                .add("mediaType", "application/vnd.docker.distribution.manifest.v2+json")
+                .add(
+                    "config",
+                    Json.createObjectBuilder()
+                        .add("mediaType", "application/vnd.docker.container.image.v1+json")
+                        .add("digest", "sha256:config")
+                )
+                .add(
+                    "layers",
+                    Json.createArrayBuilder().add(
+                        Json.createObjectBuilder()
+                            .add("mediaType", "application/vnd.docker.image.rootfs.diff.tar.gzip")
+                            .add("digest", "sha256:layer")
+                    )
+                ).build().toString().getBytes()
+        );
+        final Manifest converted = manifest.convert(
+            Collections.singleton("application/vnd.oci.image.manifest.v1+json")
+        );
+        MatcherAssert.assertThat(
+            new String(
+                new PublisherAs(converted.content()).bytes().toCompletableFuture().join()
+            ),
+            new IsEqual<>(
+                Json.createObjectBuilder()
+                    .add("schemaVersion", 2)
+                    .add("mediaType", "application/vnd.oci.image.manifest.v1+json")
+                    .add(
+                        "config",
+                        Json.createObjectBuilder()
+                            .add("mediaType", "application/vnd.oci.image.config.v1+json")
+                            .add("digest", "sha256:config")
+                    )
+                    .add(
+                        "layers",
+                        Json.createArrayBuilder().add(
+                            Json.createObjectBuilder()
+                                .add("mediaType", "application/vnd.oci.image.layer.v1.tar+gzip")
+                                .add("digest", "sha256:layer")
+                        )
+                    ).build().toString()
+            )
+        );
+    }
+
     @Test
     void shouldReadConfig() {
         final String digest = "sha256:def";
@@ -158,6 +209,103 @@ class JsonManifestTest {
         );
     }
 
+    @Test
+    void shouldReadLayerSize() {
+        final JsonManifest manifest = new JsonManifest(
+            new Digest.Sha256("123"),
+            Json.createObjectBuilder().add(
+                "layers",
+                Json.createArrayBuilder().add(
+                    Json.createObjectBuilder()
+                        .add("digest", "sha256:12345")
+                        .add("size", 2_803_255L)
+                )
+            ).build().toString().getBytes()
+        );
+        MatcherAssert.assertThat(
+            manifest.layers().iterator().next().size(),
+            new IsEqual<>(2_803_255L)
+        );
+    }
+
+    @Test
+    void shouldReturnSameLayersOnEveryCall() {
+        final JsonManifest manifest = new JsonManifest(
+            new Digest.Sha256("123"),
+            Json.createObjectBuilder().add(
+                "layers",
+                Json.createArrayBuilder().add(
+                    Json.createObjectBuilder().add("digest", "sha256:12345")
+                )
+            ).build().toString().getBytes()
+        );
+        MatcherAssert.assertThat(
+            manifest.layers(),
+            Matchers.sameInstance(manifest.layers())
+        );
+    }
+
+    @Test
+    void shouldReadChildManifests() {
+        final JsonManifest manifest = new JsonManifest(
+            new Digest.Sha256("123"),
+            Json.createObjectBuilder()
+                .add("mediaType", "application/vnd.oci.image.index.v1+json")
+                .add(
+                    "manifests",
+                    Json.createArrayBuilder()
+                        .add(Json.createObjectBuilder().add("digest", "sha256:amd"))
+                        .add(Json.createObjectBuilder().add("digest", "sha256:arm"))
+                ).build().toString().getBytes()
+        );
+        MatcherAssert.assertThat(
+            manifest.manifests().stream().map(Digest::string).collect(Collectors.toList()),
+            Matchers.contains("sha256:amd", "sha256:arm")
+        );
+    }
+
+    @Test
+    void shouldReadNoChildManifestsOfImageManifest() {
+        final JsonManifest manifest = new JsonManifest(
+            new Digest.Sha256("123"),
+            "{\"layers\":[]}".getBytes()
+        );
+        MatcherAssert.assertThat(
+            manifest.manifests(),
+            Matchers.emptyIterable()
+        );
+    }
+
+    @Test
+    void shouldDetectEmptyIndex() {
+        MatcherAssert.assertThat(
+            new JsonManifest(
+                new Digest.Sha256("123"),
+                "{\"manifests\":[]}".getBytes()
+            ).index(),
+            new IsEqual<>(true)
+        );
+    }
+
+    @Test
+    void shouldDetectIndexByMediaType() {
+        MatcherAssert.assertThat(
+            new JsonManifest(
+                new Digest.Sha256("123"),
+                "{\"mediaType\":\"application/vnd.oci.image.index.v1+json\"}".getBytes()
+            ).index(),
+            new IsEqual<>(true)
+        );
+    }
+
+    @Test
+    void shouldNotDetectIndexInImageManifest() {
+        MatcherAssert.assertThat(
+            new JsonManifest(new Digest.Sha256("123"), "{\"layers\":[]}".getBytes()).index(),
+            new IsEqual<>(false)
+        );
+    }
+
     @Test
     void shouldReadDigest() {
         final String digest = "sha256:123";
@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.docker.manifest;
+
+import com.artipie.asto.Content;
+import com.artipie.docker.error.InvalidManifestException;
+import io.reactivex.Flowable;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsInstanceOf;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ManifestBytes}.
+ *
+ * @since 0.13
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class ManifestBytesTest {
+
+    @Test
+    void shouldReadContentWithinLimit() {
+        MatcherAssert.assertThat(
+            new ManifestBytes(
+                new Content.From(
+                    Flowable.just(
+                        ByteBuffer.wrap("{\"a\":".getBytes()), ByteBuffer.wrap("1}".getBytes())
+                    )
+                ),
+                7
+            ).value().toCompletableFuture().join(),
+            new IsEqual<>("{\"a\":1}".getBytes())
+        );
+    }
+
+    @Test
+    void shouldStopReadingWhenLimitExceeded() {
+        final AtomicInteger emitted = new AtomicInteger();
+        final CompletionException exception = Assertions.assertThrows(
+            CompletionException.class,
+            () -> new ManifestBytes(
+                new Content.From(
+                    Flowable.range(0, 100)
+                        .map(idx -> ByteBuffer.wrap(new byte[10]))
+                        .doOnNext(buf -> emitted.incrementAndGet())
+                ),
+                25
+            ).value().toCompletableFuture().join()
+        );
+        MatcherAssert.assertThat(
+            "Fails with invalid manifest error",
+            exception.getCause(),
+            new IsInstanceOf(InvalidManifestException.class)
+        );
+        MatcherAssert.assertThat(
+            "Stops reading after limit",
+            emitted.get(),
+            new IsEqual<>(3)
+        );
+    }
+
+    @Test
+    void shouldFailContentOfKnownSizeExceedingLimit() {
+        final CompletionException exception = Assertions.assertThrows(
+            CompletionException.class,
+            () -> new ManifestBytes(new Content.From(new byte[10]), 5)
+                .value().toCompletableFuture().join()
+        );
+        MatcherAssert.assertThat(
+            exception.getCause(),
+            new IsInstanceOf(InvalidManifestException.class)
+        );
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.docker.manifest;
+
+import com.artipie.docker.Digest;
+import java.util.Arrays;
+import java.util.Collections;
+import javax.json.Json;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ManifestConversions}.
+ *
+ * @since 0.13
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class ManifestConversionsTest {
+
+    /**
+     * Docker image manifest media type.
+     */
+    private static final String DOCKER = "application/vnd.docker.distribution.manifest.v2+json";
+
+    /**
+     * OCI image manifest media type.
+     */
+    private static final String OCI = "application/vnd.oci.image.manifest.v1+json";
+
+    @Test
+    void shouldNotConvertAcceptedManifest() {
+        final Manifest manifest = ManifestConversionsTest.manifest();
+        MatcherAssert.assertThat(
+            new ManifestConversions().convert(
+                manifest, Arrays.asList(ManifestConversionsTest.OCI, ManifestConversionsTest.DOCKER)
+            ),
+            Matchers.sameInstance(manifest)
+        );
+    }
+
+    @Test
+    void shouldConvertManifestOnce() {
+        final ManifestConversions conversions = new ManifestConversions();
+        final Manifest converted = conversions.convert(
+            ManifestConversionsTest.manifest(),
+            Collections.singletonList(ManifestConversionsTest.OCI)
+        );
+        MatcherAssert.assertThat(
+            "Converted manifest has OCI media type",
+            converted.mediaType(),
+            new IsEqual<>(ManifestConversionsTest.OCI)
+        );
+        MatcherAssert.assertThat(
+            "Converted manifest is cached",
+            conversions.convert(
+                ManifestConversionsTest.manifest(),
+                Collections.singletonList(ManifestConversionsTest.OCI)
+            ),
+            Matchers.sameInstance(converted)
+        );
+    }
+
+    @Test
+    void shouldNotAcceptUnknownType() {
+        MatcherAssert.assertThat(
+            new ManifestConversions().acceptable(
+                ManifestConversionsTest.DOCKER,
+                Collections.singletonList(
+                    "application/vnd.docker.distribution.manifest.v1+prettyjws"
+                )
+            ),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void shouldNotAcceptIndexOfEquivalentType() {
+        MatcherAssert.assertThat(
+            new ManifestConversions().acceptable(
+                "application/vnd.docker.distribution.manifest.list.v2+json",
+                Collections.singletonList("application/vnd.oci.image.index.v1+json")
+            ),
+            new IsEqual<>(false)
+        );
+    }
+
+    private static Manifest manifest() {
+        return new JsonManifest(
+            new Digest.Sha256("abc"),
+            Json.createObjectBuilder()
+                .add("mediaType", ManifestConversionsTest.DOCKER)
+                .add("layers", Json.createArrayBuilder())
+                .build().toString().getBytes()
+        );
+    }
+}
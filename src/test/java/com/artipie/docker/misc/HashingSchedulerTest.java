@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.docker.misc;
+
+import io.reactivex.Flowable;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link HashingScheduler}.
+ * @since 0.13
+ */
+class HashingSchedulerTest {
+
+    @Test
+    void hashesOnHashingThreads() {
+        final List<String> threads = new CopyOnWriteArrayList<>();
+        HashingScheduler.hashed(
+            Flowable.just(ByteBuffer.allocate(1)),
+            buf -> threads.add(Thread.currentThread().getName())
+        ).blockingSubscribe();
+        MatcherAssert.assertThat(
+            threads,
+            Matchers.contains(Matchers.startsWith("docker-hashing-"))
+        );
+    }
+
+    @Test
+    void deliversBuffersOffHashingThreads() {
+        MatcherAssert.assertThat(
+            HashingScheduler.hashed(Flowable.just(ByteBuffer.allocate(1)), buf -> { })
+                .map(buf -> Thread.currentThread().getName())
+                .blockingFirst(),
+            Matchers.not(Matchers.startsWith("docker-hashing-"))
+        );
+    }
+
+    @Test
+    void hashesAllBuffersInOrderBeforeCompletion() {
+        final List<Integer> hashed = new CopyOnWriteArrayList<>();
+        final List<Integer> sizes = HashingScheduler.hashed(
+            Flowable.range(1, 100).map(ByteBuffer::allocate),
+            buf -> hashed.add(buf.remaining())
+        ).map(ByteBuffer::remaining).toList().blockingGet();
+        final List<Integer> expected = Flowable.range(1, 100).toList().blockingGet();
+        MatcherAssert.assertThat("Keeps buffers order", sizes, new IsEqual<>(expected));
+        MatcherAssert.assertThat("Hashes all buffers", hashed, new IsEqual<>(expected));
+    }
+
+    @Test
+    void emitsBuffersOnlyAfterHashing() {
+        final List<Integer> hashed = new CopyOnWriteArrayList<>();
+        MatcherAssert.assertThat(
+            HashingScheduler.hashed(
+                Flowable.range(1, 100).map(ByteBuffer::allocate),
+                buf -> hashed.add(buf.remaining())
+            ).map(buf -> hashed.contains(buf.remaining()))
+                .all(Boolean::booleanValue)
+                .blockingGet(),
+            new IsEqual<>(true)
+        );
+    }
+
+    @Test
+    void requestsBoundedNumberOfBuffers() {
+        final List<Long> requests = new CopyOnWriteArrayList<>();
+        HashingScheduler.hashed(
+            Flowable.range(1, 1000).map(ByteBuffer::allocate).doOnRequest(requests::add),
+            buf -> { }
+        ).blockingSubscribe();
+        MatcherAssert.assertThat(
+            requests,
+            Matchers.everyItem(Matchers.lessThanOrEqualTo(16L))
+        );
+    }
+
+    @Test
+    void keepsBufferPositionAfterHashing() {
+        MatcherAssert.assertThat(
+            HashingScheduler.hashed(
+                Flowable.just(ByteBuffer.allocate(10)),
+                buf -> buf.position(buf.limit())
+            ).map(ByteBuffer::remaining).blockingFirst(),
+            new IsEqual<>(10)
+        );
+    }
+
+    @Test
+    void failsWhenHashingFails() {
+        HashingScheduler.hashed(
+            Flowable.just(ByteBuffer.allocate(1)),
+            buf -> {
+                throw new IllegalStateException("hashing failed");
+            }
+        ).test().awaitDone(1, TimeUnit.MINUTES).assertError(IllegalStateException.class);
+    }
+}
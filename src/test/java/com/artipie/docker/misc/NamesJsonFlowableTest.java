@@ -0,0 +1,106 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.docker.misc;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.ext.PublisherAs;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link NamesJsonFlowable}.
+ *
+ * @since 0.13
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class NamesJsonFlowableTest {
+
+    @Test
+    void writesFieldsAndNames() {
+        MatcherAssert.assertThat(
+            new PublisherAs(
+                new Content.From(
+                    new NamesJsonFlowable(
+                        Collections.singletonMap("name", "my-image"),
+                        "tags",
+                        Arrays.asList("1.0", "latest")
+                    )
+                )
+            ).asciiString().toCompletableFuture().join(),
+            new IsEqual<>("{\"name\":\"my-image\",\"tags\":[\"1.0\",\"latest\"]}")
+        );
+    }
+
+    @Test
+    void writesEmptyNames() {
+        MatcherAssert.assertThat(
+            new PublisherAs(
+                new Content.From(
+                    new NamesJsonFlowable(
+                        Collections.emptyMap(), "repositories", Collections.emptyList()
+                    )
+                )
+            ).asciiString().toCompletableFuture().join(),
+            new IsEqual<>("{\"repositories\":[]}")
+        );
+    }
+
+    @Test
+    void writesManyNamesInChunks() {
+        final List<String> names = IntStream.range(0, 10_000)
+            .mapToObj(num -> String.format("repo-%05d", num))
+            .collect(Collectors.toList());
+        final NamesJsonFlowable flowable = new NamesJsonFlowable(
+            Collections.emptyMap(), "repositories", names, 1024
+        );
+        MatcherAssert.assertThat(
+            "Emits multiple chunks",
+            flowable.count().blockingGet(),
+            Matchers.greaterThan(1L)
+        );
+        MatcherAssert.assertThat(
+            "Keeps chunks bounded",
+            flowable.map(ByteBuffer::remaining).reduce(0, Math::max).blockingGet(),
+            Matchers.lessThan(1024 + 32)
+        );
+        MatcherAssert.assertThat(
+            "Writes all names",
+            new PublisherAs(new Content.From(flowable)).asciiString()
+                .toCompletableFuture().join(),
+            new IsEqual<>(
+                names.stream().collect(
+                    Collectors.joining("\",\"", "{\"repositories\":[\"", "\"]}")
+                )
+            )
+        );
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.docker.misc;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test for {@link ResumableSha256}.
+ *
+ * @since 0.13
+ */
+class ResumableSha256Test {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 55, 56, 64, 65, 1000})
+    void calculatesHexCorrectly(final int size) {
+        final byte[] data = ResumableSha256Test.data(size);
+        final ResumableSha256 sha = new ResumableSha256();
+        sha.update(ByteBuffer.wrap(data));
+        MatcherAssert.assertThat(
+            sha.digest().hex(),
+            new IsEqual<>(DigestUtils.sha256Hex(data))
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 63, 64, 100, 129})
+    void continuesFromExportedState(final int split) {
+        final byte[] data = ResumableSha256Test.data(200);
+        final ResumableSha256 first = new ResumableSha256();
+        first.update(ByteBuffer.wrap(Arrays.copyOfRange(data, 0, split)));
+        final ResumableSha256 second = new ResumableSha256(first.state());
+        final ByteBuffer rest = ByteBuffer.allocateDirect(data.length - split);
+        rest.put(data, split, data.length - split);
+        rest.flip();
+        second.update(rest);
+        MatcherAssert.assertThat(
+            second.digest().hex(),
+            new IsEqual<>(DigestUtils.sha256Hex(data))
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 7, 63, 64, 65, 300})
+    void hashesDirectBuffersInPieces(final int piece) {
+        final byte[] data = ResumableSha256Test.data(1000);
+        final ResumableSha256 sha = new ResumableSha256();
+        for (int pos = 0; pos < data.length; pos += piece) {
+            final int len = Math.min(piece, data.length - pos);
+            final ByteBuffer buf = ByteBuffer.allocateDirect(len);
+            buf.put(data, pos, len);
+            buf.flip();
+            sha.update(buf);
+        }
+        MatcherAssert.assertThat(
+            sha.digest().hex(),
+            new IsEqual<>(DigestUtils.sha256Hex(data))
+        );
+    }
+
+    /**
+     * Generate test data.
+     *
+     * @param size Data size.
+     * @return Bytes.
+     */
+    private static byte[] data(final int size) {
+        final byte[] data = new byte[size];
+        for (int idx = 0; idx < size; idx += 1) {
+            data[idx] = (byte) idx;
+        }
+        return data;
+    }
+}
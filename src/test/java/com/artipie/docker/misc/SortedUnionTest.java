@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.docker.misc;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.collection.IsEmptyCollection;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link SortedUnion}.
+ *
+ * @since 0.13
+ */
+final class SortedUnionTest {
+
+    @Test
+    void mergesDistinctNamesUpToLimit() {
+        MatcherAssert.assertThat(
+            new SortedUnion(
+                Arrays.asList(
+                    Arrays.asList("a", "c", "e"),
+                    Arrays.asList("b", "c", "d", "f"),
+                    Collections.emptyList()
+                ),
+                Optional.empty(),
+                5
+            ).value(),
+            new IsEqual<>(Arrays.asList("a", "b", "c", "d", "e"))
+        );
+    }
+
+    @Test
+    void skipsNamesUpToFrom() {
+        MatcherAssert.assertThat(
+            new SortedUnion(
+                Arrays.asList(
+                    Arrays.asList("one", "two"),
+                    Arrays.asList("four", "one", "three")
+                ),
+                Optional.of("one"),
+                Integer.MAX_VALUE
+            ).value(),
+            new IsEqual<>(Arrays.asList("three", "two"))
+        );
+    }
+
+    @Test
+    void returnsNothingForNoPages() {
+        final List<List<String>> pages = Collections.emptyList();
+        MatcherAssert.assertThat(
+            new SortedUnion(pages, Optional.empty(), 1).value(),
+            new IsEmptyCollection<>()
+        );
+    }
+}